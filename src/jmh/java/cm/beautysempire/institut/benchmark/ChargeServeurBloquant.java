@@ -0,0 +1,136 @@
+package cm.beautysempire.institut.benchmark;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Test de charge (pas un benchmark JMH) : Tomcat dont chaque requête attend une E/S bloquante
+// (appel Cloudinary, requête SQL lente...), servi une fois par le pool classique de 200 threads,
+// une fois par des threads virtuels (ce que fait spring.threads.virtual.enabled=true sur Java 21+).
+// Lancer : ./mvnw -P benchmark test-compile exec:exec@charge
+// Régler : -Dcharge.args="<concurrence> <attente ms> <durée s>"
+public final class ChargeServeurBloquant {
+
+    private ChargeServeurBloquant() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrence = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long attenteMs = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        int dureeS = args.length > 2 ? Integer.parseInt(args[2]) : 15;
+
+        System.out.printf("Concurrence %d, E/S simulée %d ms, %d s par mode%n", concurrence, attenteMs, dureeS);
+        mesurer("plateforme (200 threads)", false, concurrence, attenteMs, dureeS);
+        if (Runtime.version().feature() >= 21) {
+            mesurer("threads virtuels", true, concurrence, attenteMs, dureeS);
+        } else {
+            System.out.println("threads virtuels : ignoré, Java " + Runtime.version().feature() + " (21 requis)");
+        }
+    }
+
+    private static void mesurer(String mode, boolean virtuels, int concurrence, long attenteMs, int dureeS)
+            throws Exception {
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("charge-tomcat").toString());
+        Connector connecteur = new Connector();
+        connecteur.setPort(0);
+        connecteur.setProperty("maxConnections", String.valueOf(concurrence * 2));
+        connecteur.setProperty("acceptCount", String.valueOf(concurrence));
+        if (virtuels) {
+            connecteur.getProtocolHandler().setExecutor(new VirtualThreadTaskExecutor("charge-"));
+        }
+        tomcat.setConnector(connecteur);
+        Context contexte = tomcat.addContext("", null);
+        Tomcat.addServlet(contexte, "bloquant", new ServletBloquant(attenteMs));
+        contexte.addServletMappingDecoded("/", "bloquant");
+        tomcat.start();
+
+        try {
+            URI uri = URI.create("http://localhost:" + connecteur.getLocalPort() + "/");
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+            // Chauffe : JIT, connexions ouvertes
+            tirer(client, uri, concurrence, Duration.ofSeconds(3));
+            Resultat resultat = tirer(client, uri, concurrence, Duration.ofSeconds(dureeS));
+            System.out.printf("%-26s %8.0f req/s   p50 %5d ms   p99 %5d ms   erreurs %d%n", mode,
+                    resultat.reponses() / (double) dureeS, resultat.centile(50), resultat.centile(99), resultat.erreurs());
+        } finally {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    // Boucle fermée : "concurrence" requêtes toujours en vol, chacune relancée dès sa réponse
+    private static Resultat tirer(HttpClient client, URI uri, int concurrence, Duration duree) throws InterruptedException {
+        HttpRequest requete = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        Semaphore enVol = new Semaphore(concurrence);
+        List<Long> latences = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong erreurs = new AtomicLong();
+        long fin = System.nanoTime() + duree.toNanos();
+
+        while (System.nanoTime() < fin) {
+            enVol.acquire();
+            long debut = System.nanoTime();
+            client.sendAsync(requete, HttpResponse.BodyHandlers.discarding()).whenComplete((reponse, erreur) -> {
+                if (erreur != null || reponse.statusCode() != 200) {
+                    erreurs.incrementAndGet();
+                } else if (System.nanoTime() < fin) {
+                    latences.add((System.nanoTime() - debut) / 1_000_000);
+                }
+                enVol.release();
+            });
+        }
+        enVol.acquire(concurrence);
+        return new Resultat(latences, erreurs.get());
+    }
+
+    private record Resultat(List<Long> latences, long erreurs) {
+
+        long reponses() {
+            return latences.size();
+        }
+
+        long centile(int centile) {
+            if (latences.isEmpty()) return -1;
+            List<Long> triees = new ArrayList<>(latences);
+            Collections.sort(triees);
+            return triees.get(Math.min(triees.size() - 1, triees.size() * centile / 100));
+        }
+    }
+
+    private static final class ServletBloquant extends HttpServlet {
+
+        private final long attenteMs;
+
+        ServletBloquant(long attenteMs) {
+            this.attenteMs = attenteMs;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            try {
+                Thread.sleep(attenteMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.setContentType("application/json");
+            response.getWriter().write("{\"ok\":true}");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package cm.beautysempire.institut.benchmark;
+
+import cm.beautysempire.institut.api.formation.presentation.FormationApiMapper;
+import cm.beautysempire.institut.api.formation.presentation.FormationResponse;
+import cm.beautysempire.institut.domain.formation.Formation;
+import cm.beautysempire.institut.infrastructure.persistence.formation.FormationPersistenceMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Mapping exécuté pour chaque formation de chaque page du catalogue
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormationMappingBenchmark {
+
+    private final FormationApiMapper apiMapper = Mappers.getMapper(FormationApiMapper.class);
+    private final FormationPersistenceMapper persistenceMapper = Mappers.getMapper(FormationPersistenceMapper.class);
+
+    private Formation enPromotion;
+    private Formation sansPromotion;
+
+    @Setup
+    public void preparer() {
+        enPromotion = Jeux.formation(1, true);
+        sansPromotion = Jeux.formation(2, false);
+    }
+
+    @Benchmark
+    public FormationResponse versReponseEnPromotion() {
+        return apiMapper.toResponse(enPromotion);
+    }
+
+    @Benchmark
+    public FormationResponse versReponseSansPromotion() {
+        return apiMapper.toResponse(sansPromotion);
+    }
+
+    // Calcul BigDecimal seul (appelé par toResponse)
+    @Benchmark
+    public BigDecimal prixAvecReduction() {
+        return enPromotion.getPrixAvecReduction();
+    }
+
+    @Benchmark
+    public boolean promoActive() {
+        return enPromotion.isPromoActive();
+    }
+
+    // Aller-retour domaine -> entité JPA -> domaine, comme à chaque save()
+    @Benchmark
+    public Formation allerRetourPersistance() {
+        return persistenceMapper.toDomain(persistenceMapper.toEntity(enPromotion));
+    }
+}
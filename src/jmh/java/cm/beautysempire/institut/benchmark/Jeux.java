@@ -0,0 +1,71 @@
+package cm.beautysempire.institut.benchmark;
+
+import cm.beautysempire.institut.domain.formation.Formation;
+import cm.beautysempire.institut.domain.messages.Message;
+import cm.beautysempire.institut.domain.messages.TypeMessage;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Données représentatives du catalogue, partagées par les benchmarks
+final class Jeux {
+
+    private Jeux() {
+    }
+
+    static Formation formation(long id, boolean enPromotion) {
+        LocalDateTime maintenant = LocalDateTime.now();
+        return Formation.builder()
+                .id(id)
+                .nom("Onglerie & Pose de Gel Professionnelle " + id)
+                .description("Maîtrisez la pose de gel, la French manucure, le nail art et l'hygiène du poste de travail.")
+                .duree("3 mois")
+                .fraisInscription(BigDecimal.valueOf(15000))
+                .prix(BigDecimal.valueOf(85000))
+                .categorie("Onglerie")
+                .certificatDelivre(true)
+                .nomCertificat("Certificat Onglerie IBE")
+                .programme("Module 1 : Hygiène\nModule 2 : Pose de gel\nModule 3 : Nail art\nModule 4 : Gestion client")
+                .objectifs("Être autonome en salon ou à domicile")
+                .materielFourni("Kit complet : lampe UV, gels, limes, pinceaux")
+                .horaires("Lundi - Vendredi, 9h - 13h")
+                .frequence("3 fois par semaine")
+                .dateDemarrage(LocalDate.now().plusWeeks(2))
+                .nombrePlaces(20)
+                .nombreInscritsReel(7)
+                .nombreInscritsAffiche(12)
+                .nombreInscriptions(7)
+                .nombreVues(1534)
+                .nombreDemandesInfo(41)
+                .socialProofActif(true)
+                .active(true)
+                .enPromotion(enPromotion)
+                .pourcentageReduction(BigDecimal.valueOf(15))
+                .dateDebutPromo(maintenant.minusDays(3))
+                .dateFinPromo(maintenant.plusDays(10))
+                .photoPrincipale("https://res.cloudinary.com/ibe/image/upload/v1/ibe/formations/onglerie.jpg")
+                .photosGalerie(new ArrayList<>(List.of(
+                        "https://res.cloudinary.com/ibe/image/upload/v1/ibe/galerie/1.jpg",
+                        "https://res.cloudinary.com/ibe/image/upload/v1/ibe/galerie/2.jpg",
+                        "https://res.cloudinary.com/ibe/image/upload/v1/ibe/galerie/3.jpg")))
+                .slug("onglerie-pose-de-gel-professionnelle-" + id)
+                .dateCreation(maintenant.minusMonths(2))
+                .version(3L)
+                .build();
+    }
+
+    static Message preInscription() {
+        return Message.builder()
+                .type(TypeMessage.PRE_INSCRIPTION)
+                .nom("Aïcha Ngo Mbarga")
+                .telephone("+237 6 91 23 45 67")
+                .email("aicha@example.com")
+                .ville("Douala")
+                .formationNom("Onglerie & Pose de Gel Professionnelle")
+                .message("Bonjour, je souhaite m'inscrire à la session de septembre. Est-ce possible de payer en deux fois ?")
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package cm.beautysempire.institut.benchmark;
+
+import cm.beautysempire.institut.api.formation.presentation.FormationApiMapper;
+import cm.beautysempire.institut.api.formation.presentation.FormationResponse;
+import cm.beautysempire.institut.api.shared.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// Corps de GET /api/formations/actives : ApiResponse<Page<FormationResponse>> sérialisé par Jackson
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerialisationBenchmark {
+
+    @Param({"12", "50"})
+    private int taillePage;
+
+    // Même configuration que l'ObjectMapper de Spring Boot (JavaTimeModule, dates ISO)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ApiResponse<Page<FormationResponse>> reponse;
+
+    @Setup
+    public void preparer() {
+        FormationApiMapper mapper = Mappers.getMapper(FormationApiMapper.class);
+        List<FormationResponse> contenu = LongStream.rangeClosed(1, taillePage)
+                .mapToObj(id -> mapper.toResponse(Jeux.formation(id, id % 3 == 0)))
+                .toList();
+        Page<FormationResponse> page = new PageImpl<>(contenu, PageRequest.of(0, taillePage), 240);
+        reponse = ApiResponse.success(page, "Formations récupérées");
+    }
+
+    @Benchmark
+    public byte[] serialiserPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reponse);
+    }
+}
@@ -0,0 +1,50 @@
+package cm.beautysempire.institut.benchmark;
+
+import cm.beautysempire.institut.domain.formation.SlugFormation;
+import cm.beautysempire.institut.domain.messages.Message;
+import cm.beautysempire.institut.infrastructure.notification.WhatsAppNotifierAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+// Traitements de chaînes : génération du slug à la création d'une formation, liens wa.me à chaque message
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TexteBenchmark {
+
+    private final WhatsAppNotifierAdapter whatsApp = new WhatsAppNotifierAdapter();
+    private Message message;
+
+    @Setup
+    public void preparer() {
+        // Injecté par @Value dans l'application
+        Field numero = ReflectionUtils.findField(WhatsAppNotifierAdapter.class, "adminNumber");
+        ReflectionUtils.makeAccessible(numero);
+        ReflectionUtils.setField(numero, whatsApp, "+237 6 52 58 81 97");
+        message = Jeux.preInscription();
+    }
+
+    @Benchmark
+    public String slug() {
+        return SlugFormation.depuis("Maquillage Événementiel & Beauté du Regard — Niveau Avancé");
+    }
+
+    @Benchmark
+    public String lienConfirmationClient() {
+        return whatsApp.genererLienConfirmationClient(message);
+    }
+
+    @Benchmark
+    public String lienAdmin() {
+        return whatsApp.genererLienAdmin(message);
+    }
+}
@@ -2,14 +2,20 @@ package cm.beautysempire.institut;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableRetry
+@EnableScheduling
 public class InstitutApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(InstitutApplication.class, args);
+		SpringApplication application = new SpringApplication(InstitutApplication.class);
+		// Étapes du démarrage (création de chaque bean, refresh...) consultables via /actuator/startup (admin)
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 
 }
@@ -1,40 +1,54 @@
 package cm.beautysempire.institut.api.admin.presentation;
 
 import cm.beautysempire.institut.api.shared.ApiResponse;
-import cm.beautysempire.institut.domain.formation.FormationRepositoryPort;
-import cm.beautysempire.institut.domain.messages.MessageRepositoryPort;
-import cm.beautysempire.institut.domain.messages.StatutMessage;
-import cm.beautysempire.institut.domain.newsletter.NewsletterRepositoryPort;
-import cm.beautysempire.institut.domain.testimonial.TestimonialRepositoryPort;
+import cm.beautysempire.institut.application.service.StatistiquesUseCase;
+import cm.beautysempire.institut.domain.statistiques.ApercuStatistiques;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
+// Réservé à l'admin : créé à la première requête, pas au démarrage
+@Lazy
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
 public class AdminController {
-    private final MessageRepositoryPort messageRepositoryPort;
-    private final FormationRepositoryPort formationRepositoryPort;
-    private final NewsletterRepositoryPort newsletterRepositoryPort;
-    private final TestimonialRepositoryPort testimonialRepositoryPort;
+    private final StatistiquesUseCase statistiquesUseCase;
 
     @GetMapping("/stats/overview")
     public ResponseEntity<ApiResponse<DashboardStatsResponse>> getDashboardStats() {
-        long nonLus = messageRepositoryPort.countByStatut(StatutMessage.NON_LU);
-        long formationsActives = formationRepositoryPort.countByActiveTrue();
-        long abonnes = newsletterRepositoryPort.count();
-        long temoignages = testimonialRepositoryPort.count();
+        // Servi depuis l'aperçu en mémoire : pas de requête à chaque rafraîchissement du tableau de bord
+        ApercuStatistiques apercu = statistiquesUseCase.obtenirApercu();
 
         DashboardStatsResponse stats = DashboardStatsResponse.builder()
-                .messagesNonLus(nonLus)
-                .formationsActives(formationsActives)
-                .abonnesNewsletter(abonnes)
-                .totalTemoignages(temoignages)
+                .messagesNonLus(apercu.messagesNonLus())
+                .formationsActives(apercu.formationsActives())
+                .abonnesNewsletter(apercu.abonnesNewsletter())
+                .totalTemoignages(apercu.totalTemoignages())
                 .build();
 
         return ResponseEntity.ok(ApiResponse.success(stats, "Statistiques récupérées"));
     }
+
+    @GetMapping("/stats/tendances")
+    public ResponseEntity<ApiResponse<List<TendanceJourResponse>>> getTendances(
+            @RequestParam(defaultValue = "30") int jours) {
+
+        List<TendanceJourResponse> tendances = statistiquesUseCase.obtenirTendances(jours).stream()
+                .map(t -> TendanceJourResponse.builder()
+                        .jour(t.jour())
+                        .messages(t.messages())
+                        .preInscriptions(t.preInscriptions())
+                        .vues(t.vues())
+                        .build())
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(tendances, "Tendances récupérées"));
+    }
 }
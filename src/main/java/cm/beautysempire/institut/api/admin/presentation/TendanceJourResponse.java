@@ -0,0 +1,15 @@
+package cm.beautysempire.institut.api.admin.presentation;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class TendanceJourResponse {
+    private LocalDate jour;
+    private long messages;
+    private long preInscriptions;
+    private long vues;
+}
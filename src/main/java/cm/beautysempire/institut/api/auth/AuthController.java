@@ -0,0 +1,56 @@
+package cm.beautysempire.institut.api.auth;
+
+import cm.beautysempire.institut.api.shared.ApiResponse;
+import cm.beautysempire.institut.application.port.JetonAdmin;
+import cm.beautysempire.institut.application.service.AuthUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.oidc.IdTokenClaimNames;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Réservé à l'admin : créé à la première requête, pas au démarrage
+@Lazy
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AuthUseCase authUseCase;
+
+    // 1. Connexion : identifiants en Basic (seule vérification BCrypt de la session), on reçoit un jeton Bearer
+    @PostMapping("/token")
+    public ResponseEntity<ApiResponse<JetonResponse>> obtenirJeton(Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken) {
+            throw new IllegalArgumentException("Utilisez /api/auth/refresh pour prolonger une session.");
+        }
+        JetonAdmin jeton = authUseCase.ouvrirSession(authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success(toResponse(jeton), "Authentification réussie"));
+    }
+
+    // 2. Rafraîchissement : avec le jeton Bearer encore valide
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<JetonResponse>> rafraichirJeton(Authentication authentication) {
+        if (!(authentication instanceof JwtAuthenticationToken jwtAuth)) {
+            throw new IllegalArgumentException("Un jeton Bearer est requis pour le rafraîchissement.");
+        }
+        Instant debutSession = jwtAuth.getToken().getClaimAsInstant(IdTokenClaimNames.AUTH_TIME);
+        if (debutSession == null) {
+            throw new IllegalArgumentException("Jeton sans date de début de session.");
+        }
+        JetonAdmin jeton = authUseCase.prolongerSession(authentication.getName(), debutSession);
+        return ResponseEntity.ok(ApiResponse.success(toResponse(jeton), "Jeton rafraîchi"));
+    }
+
+    private JetonResponse toResponse(JetonAdmin jeton) {
+        long expiresIn = Math.max(0, Duration.between(Instant.now(), jeton.expiration()).toSeconds());
+        return new JetonResponse(jeton.valeur(), "Bearer", expiresIn, jeton.expiration());
+    }
+}
@@ -0,0 +1,15 @@
+package cm.beautysempire.institut.api.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class JetonResponse {
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;     // En secondes
+    private Instant expiresAt;
+}
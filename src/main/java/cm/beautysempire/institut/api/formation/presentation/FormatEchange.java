@@ -0,0 +1,78 @@
+package cm.beautysempire.institut.api.formation.presentation;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// Formats acceptés par l'import / l'export en masse. Lecture et écriture se font ligne à ligne.
+public enum FormatEchange {
+
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            // Cellule vide = valeur absente (et non "" pour un nombre ou une date)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .build();
+
+    private static final CsvSchema SCHEMA_CSV = CSV_MAPPER.schemaFor(FormationLigne.class)
+            .withHeader()
+            .withArrayElementSeparator("|");
+
+    // À la lecture, les colonnes viennent de l'en-tête du fichier : ordre libre, colonnes inconnues ignorées
+    private static final CsvSchema SCHEMA_LECTURE_CSV = CsvSchema.emptySchema()
+            .withHeader()
+            .withArrayElementSeparator("|");
+
+    private final MediaType mediaType;
+
+    FormatEchange(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public static FormatEchange depuis(MediaType contentType) {
+        if (contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) return NDJSON;
+        if (contentType != null && contentType.isCompatibleWith(CSV.mediaType)) return CSV;
+        throw new IllegalArgumentException("Format non supporté : utilisez text/csv ou application/x-ndjson");
+    }
+
+    public static FormatEchange depuis(String nom) {
+        return switch (nom.toLowerCase()) {
+            case "csv" -> CSV;
+            case "ndjson", "jsonl" -> NDJSON;
+            default -> throw new IllegalArgumentException("Format non supporté : csv ou ndjson");
+        };
+    }
+
+    public MappingIterator<FormationLigne> lecteur(ObjectMapper objectMapper, InputStream entree) throws IOException {
+        ObjectReader reader = this == CSV
+                ? CSV_MAPPER.readerFor(FormationLigne.class).with(SCHEMA_LECTURE_CSV)
+                : objectMapper.readerFor(FormationLigne.class);
+        return reader.readValues(entree);
+    }
+
+    public SequenceWriter ecrivain(ObjectMapper objectMapper, OutputStream sortie) throws IOException {
+        ObjectWriter writer = this == CSV
+                ? CSV_MAPPER.writerFor(FormationLigne.class).with(SCHEMA_CSV)
+                : objectMapper.writerFor(FormationLigne.class).withRootValueSeparator("\n");
+        return writer.writeValues(sortie);
+    }
+}
@@ -1,5 +1,6 @@
 package cm.beautysempire.institut.api.formation.presentation;
 
+import cm.beautysempire.institut.domain.formation.CarteFormation;
 import cm.beautysempire.institut.domain.formation.Formation;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -13,5 +14,29 @@ public interface FormationApiMapper {
     @Mapping(target = "prixAvecReduction", expression = "java(formation.getPrixAvecReduction())")
     @Mapping(target = "placesRestantesAffichees", expression = "java(formation.getPlacesRestantesAffichees())")
     @Mapping(target = "isPromoActive", expression = "java(formation.isPromoActive())")
+    @Mapping(target = "score", ignore = true)
+    @Mapping(target = "extrait", ignore = true)
     FormationResponse toResponse(Formation formation);
+
+    @Mapping(target = "prixAvecReduction", expression = "java(carte.getPrixAvecReduction())")
+    @Mapping(target = "placesRestantesAffichees", expression = "java(carte.getPlacesRestantesAffichees())")
+    @Mapping(target = "isPromoActive", expression = "java(carte.isPromoActive())")
+    FormationCardResponse toCardResponse(CarteFormation carte);
+
+    // Import en masse : id, compteurs et dates de suivi du fichier ne sont pas repris,
+    // version et auteurs sont posés par le domaine à la création
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "active", ignore = true)
+    @Mapping(target = "nombreInscritsReel", ignore = true)
+    @Mapping(target = "nombreVues", ignore = true)
+    @Mapping(target = "nombreInscriptions", ignore = true)
+    @Mapping(target = "nombreDemandesInfo", ignore = true)
+    @Mapping(target = "dateCreation", ignore = true)
+    @Mapping(target = "dateMiseAJour", ignore = true)
+    @Mapping(target = "creeParAdmin", ignore = true)
+    @Mapping(target = "modifiePar", ignore = true)
+    Formation toDomain(FormationLigne ligne);
+
+    FormationLigne toLigne(Formation formation);
 }
\ No newline at end of file
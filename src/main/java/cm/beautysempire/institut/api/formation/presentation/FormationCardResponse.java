@@ -0,0 +1,28 @@
+package cm.beautysempire.institut.api.formation.presentation;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Réponse compacte de la grille catalogue ; la page détail garde FormationResponse
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormationCardResponse {
+    private Long id;
+    private String slug;
+    private String nom;
+    private String categorie;
+    private String duree;
+    private BigDecimal prix;
+    private BigDecimal prixAvecReduction; // Calculé par le domaine
+    private BigDecimal pourcentageReduction;
+    private Boolean isPromoActive; // Calculé par le domaine
+    private LocalDateTime dateFinPromo;
+    private Integer nombrePlaces;
+    private Integer placesRestantesAffichees; // Calculé par le domaine
+    private String photoPrincipale;
+}
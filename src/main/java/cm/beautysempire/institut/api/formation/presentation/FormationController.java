@@ -3,22 +3,45 @@
 package cm.beautysempire.institut.api.formation.presentation;
 
 import cm.beautysempire.institut.application.service.FormationUseCase;
+import cm.beautysempire.institut.domain.formation.BilanImport;
 import cm.beautysempire.institut.domain.formation.Formation;
+import cm.beautysempire.institut.domain.formation.ResultatRechercheFormation;
 import cm.beautysempire.institut.api.shared.ApiResponse;
+import cm.beautysempire.institut.api.shared.CurseurCodec;
+import cm.beautysempire.institut.api.shared.PageCurseurResponse;
+import cm.beautysempire.institut.domain.shared.Curseur;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
 @RestController
 @RequestMapping("/api/formations")
 @RequiredArgsConstructor
 public class FormationController {
 
+    // Pages bornées : au-delà, les photos ne tiennent plus en un seul lot (@BatchSize de FormationJpaEntity)
+    // et une seule requête pourrait charger tout le catalogue dans le cache des pages
+    private static final int TAILLE_PAGE_MAX = 100;
+
     private final FormationUseCase formationUseCase;
     private final FormationApiMapper formationApiMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @PostMapping
     public ResponseEntity<ApiResponse<FormationResponse>> creerFormation(@Valid @RequestBody FormationCreateRequest request) {
@@ -34,6 +57,44 @@ public class FormationController {
                 .body(ApiResponse.created(response, "Formation créée avec succès"));
     }
 
+    // Import en masse (Admin) : corps text/csv (en-tête obligatoire, photos séparées par "|") ou application/x-ndjson.
+    // Le fichier est lu en flux et écrit par lots ; les noms déjà présents sont ignorés.
+    @PostMapping(value = "/bulk", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<ImportFormationsResponse>> importerFormations(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream corps) throws IOException {
+
+        FormatEchange format = FormatEchange.depuis(MediaType.parseMediaType(contentType));
+        try (MappingIterator<FormationLigne> lignes = format.lecteur(objectMapper, corps)) {
+            LecteurFormations lecteur = new LecteurFormations(lignes, validator, formationApiMapper);
+            BilanImport bilan = formationUseCase.importerFormations(lecteur, "admin");
+
+            ImportFormationsResponse response = new ImportFormationsResponse(lecteur.nombreLignes(), bilan.creees(),
+                    bilan.doublons(), lecteur.nombreErreurs(), lecteur.erreurs());
+            return ResponseEntity.ok(ApiResponse.success(response, bilan.creees() + " formations importées"));
+        }
+    }
+
+    // Export complet (Admin) : ?format=csv (par défaut) ou ndjson, écrit au fil de la lecture en base
+    @GetMapping("/export")
+    public void exporterFormations(@RequestParam(defaultValue = "csv") String format,
+                                   HttpServletResponse response) throws IOException {
+        FormatEchange formatEchange = FormatEchange.depuis(format);
+        response.setContentType(formatEchange.mediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"formations." + formatEchange.name().toLowerCase() + "\"");
+
+        try (SequenceWriter ecrivain = formatEchange.ecrivain(objectMapper, response.getOutputStream())) {
+            formationUseCase.exporterFormations(formation -> {
+                try {
+                    ecrivain.write(formationApiMapper.toLigne(formation));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
     @PostMapping("/{formationId}/inscriptions")
     public ResponseEntity<ApiResponse<Void>> enregistrerInscription(@PathVariable Long formationId) {
         formationUseCase.enregistrerInscription(formationId);
@@ -70,7 +131,7 @@ public class FormationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size) {
 
-        Page<Formation> formationsPage = formationUseCase.listerFormationsActivesPaginees(page, size);
+        Page<Formation> formationsPage = formationUseCase.listerFormationsActivesPaginees(page, taillePage(size));
 
         // La méthode .map() de l'objet Page permet de convertir chaque élément facilement !
         Page<FormationResponse> responsePage = formationsPage.map(formationApiMapper::toResponse);
@@ -78,6 +139,31 @@ public class FormationController {
         return ResponseEntity.ok(ApiResponse.success(responsePage, "Liste des formations affichée avec succès"));
     }
 
+    // Grille du catalogue : mêmes formations et même ordre que /actives, sans les textes longs ni la galerie
+    @GetMapping("/actives/cartes")
+    public ResponseEntity<ApiResponse<Page<FormationCardResponse>>> listerCartesActives(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size) {
+
+        Page<FormationCardResponse> cartes = formationUseCase.listerCartesActives(page, taillePage(size))
+                .map(formationApiMapper::toCardResponse);
+
+        return ResponseEntity.ok(ApiResponse.success(cartes, "Liste des formations affichée avec succès"));
+    }
+
+    // Variante par curseur : coût constant en profondeur, pas de total
+    @GetMapping("/actives/scroll")
+    public ResponseEntity<ApiResponse<PageCurseurResponse<FormationResponse>>> defilerFormationsActives(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "12") int size) {
+
+        Slice<Formation> tranche = formationUseCase.listerFormationsActivesApres(CurseurCodec.decoder(after), taillePage(size));
+        PageCurseurResponse<FormationResponse> response = PageCurseurResponse.of(tranche,
+                formationApiMapper::toResponse, f -> new Curseur(f.getDateCreation(), f.getId()));
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Liste des formations affichée avec succès"));
+    }
+
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> supprimerFormation(@PathVariable Long id) {
@@ -91,8 +177,13 @@ public class FormationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size) {
 
-        Page<Formation> formationsPage = formationUseCase.rechercherFormations(q, page, size);
-        Page<FormationResponse> responsePage = formationsPage.map(formationApiMapper::toResponse);
+        Page<ResultatRechercheFormation> resultats = formationUseCase.rechercherFormations(q, page, taillePage(size));
+        Page<FormationResponse> responsePage = resultats.map(resultat -> {
+            FormationResponse response = formationApiMapper.toResponse(resultat.getFormation());
+            response.setScore(resultat.getScore());
+            response.setExtrait(resultat.getExtrait());
+            return response;
+        });
 
         return ResponseEntity.ok(ApiResponse.success(responsePage, "Résultats de la recherche"));
     }
@@ -124,10 +215,13 @@ public class FormationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        Page<Formation> formationsPage = formationUseCase.listerFormationsAdmin(q, status, page, size);
+        Page<Formation> formationsPage = formationUseCase.listerFormationsAdmin(q, status, page, taillePage(size));
         Page<FormationResponse> responsePage = formationsPage.map(formationApiMapper::toResponse);
 
         return ResponseEntity.ok(ApiResponse.success(responsePage, "Liste admin récupérée"));
     }
 
-}
\ No newline at end of file
+    private static int taillePage(int size) {
+        return Math.min(size, TAILLE_PAGE_MAX);
+    }
+}
@@ -0,0 +1,112 @@
+package cm.beautysempire.institut.api.formation.presentation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Une ligne d'import / export en masse (CSV ou NDJSON).
+// Un fichier exporté se réimporte tel quel : id, compteurs et dates de suivi sont ignorés à l'import.
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({"id", "slug", "nom", "description", "duree", "fraisInscription", "prix", "categorie",
+        "certificatDelivre", "nomCertificat", "programme", "objectifs", "materielFourni",
+        "dateDemarrage", "dateFinInscription", "joursFormation", "horaires", "frequence",
+        "nombrePlaces", "nombreInscritsAffiche", "socialProofActif", "photoPrincipale", "photosGalerie",
+        "enPromotion", "pourcentageReduction", "dateDebutPromo", "dateFinPromo", "metaTitle", "metaDescription",
+        "active", "nombreInscritsReel", "nombreVues", "nombreInscriptions", "dateCreation"})
+public class FormationLigne {
+
+    // --- Export uniquement ---
+    private Long id;
+    private Boolean active;
+    private Integer nombreInscritsReel;
+    private Integer nombreVues;
+    private Integer nombreInscriptions;
+    private LocalDateTime dateCreation;
+
+    // --- Import et export (mêmes règles que FormationCreateRequest) ---
+    // Longueurs max = colonnes de la table formations : une ligne trop longue finit dans les erreurs
+    // de l'import au lieu de faire échouer l'écriture de tout son lot
+    @Size(max = 100, message = "Le slug ne doit pas dépasser 100 caractères")
+    private String slug;
+
+    @NotBlank(message = "Le nom est obligatoire")
+    @Size(max = 100, message = "Le nom ne doit pas dépasser 100 caractères")
+    private String nom;
+
+    @NotBlank(message = "La description est obligatoire")
+    private String description;
+
+    @NotBlank(message = "La durée est obligatoire")
+    @Size(max = 50, message = "La durée ne doit pas dépasser 50 caractères")
+    private String duree;
+
+    @NotNull(message = "Les frais d'inscription sont obligatoires")
+    @Min(value = 0, message = "Les frais d'inscription doivent être positifs")
+    private BigDecimal fraisInscription;
+
+    @NotNull(message = "Le prix est obligatoire")
+    @Min(value = 0, message = "Le prix doit être positif")
+    private BigDecimal prix;
+
+    @NotBlank(message = "La catégorie est obligatoire")
+    @Size(max = 50, message = "La catégorie ne doit pas dépasser 50 caractères")
+    private String categorie;
+
+    private Boolean certificatDelivre;
+
+    @Size(max = 100, message = "Le nom du certificat ne doit pas dépasser 100 caractères")
+    private String nomCertificat;
+
+    private String programme;
+    private String objectifs;
+    private String materielFourni;
+
+    private LocalDate dateDemarrage;
+    private LocalDate dateFinInscription;
+
+    @Size(max = 100, message = "Les jours de formation ne doivent pas dépasser 100 caractères")
+    private String joursFormation;
+
+    @Size(max = 100, message = "Les horaires ne doivent pas dépasser 100 caractères")
+    private String horaires;
+
+    @Size(max = 50, message = "La fréquence ne doit pas dépasser 50 caractères")
+    private String frequence;
+
+    @NotNull(message = "Le nombre de places est obligatoire")
+    @Min(value = 1, message = "Il faut au moins 1 place")
+    private Integer nombrePlaces;
+
+    private Integer nombreInscritsAffiche;
+    private Boolean socialProofActif;
+
+    @Size(max = 255, message = "L'URL de la photo ne doit pas dépasser 255 caractères")
+    private String photoPrincipale;
+
+    private List<@Size(max = 255, message = "L'URL de la photo ne doit pas dépasser 255 caractères") String> photosGalerie; // En CSV : URLs séparées par "|"
+
+    private Boolean enPromotion;
+    private BigDecimal pourcentageReduction;
+    private LocalDateTime dateDebutPromo;
+    private LocalDateTime dateFinPromo;
+
+    @Size(max = 200, message = "Le meta title ne doit pas dépasser 200 caractères")
+    private String metaTitle;
+
+    @Size(max = 300, message = "La meta description ne doit pas dépasser 300 caractères")
+    private String metaDescription;
+}
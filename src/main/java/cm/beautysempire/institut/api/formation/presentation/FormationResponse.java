@@ -1,5 +1,6 @@
 package cm.beautysempire.institut.api.formation.presentation;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -46,4 +47,11 @@ public class FormationResponse {
     private String slug;
 
     private Boolean active;
+
+    // --- RENSEIGNÉS UNIQUEMENT PAR LA RECHERCHE ---
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double score;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String extrait; // Passage de la description, termes trouvés entre <mark></mark>
 }
\ No newline at end of file
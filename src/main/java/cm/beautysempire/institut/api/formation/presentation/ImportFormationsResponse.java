@@ -0,0 +1,8 @@
+package cm.beautysempire.institut.api.formation.presentation;
+
+import java.util.List;
+
+// lues = lignes de données du fichier ; erreurs détaillées limitées aux 100 premières
+public record ImportFormationsResponse(int lues, int creees, List<String> doublons,
+                                       int nombreErreurs, List<String> erreurs) {
+}
@@ -0,0 +1,94 @@
+package cm.beautysempire.institut.api.formation.presentation;
+
+import cm.beautysempire.institut.domain.formation.Formation;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Lit le fichier importé au fil de l'eau : une ligne invalide est notée puis sautée,
+// les autres sont converties en Formation au moment où le use case les demande.
+class LecteurFormations implements Iterator<Formation> {
+
+    private static final int ERREURS_MAX = 100;
+
+    private final MappingIterator<FormationLigne> lignes;
+    private final Validator validator;
+    private final FormationApiMapper mapper;
+
+    private final List<String> erreurs = new ArrayList<>();
+    private int nombreErreurs;
+    private int numeroLigne;
+    private Formation suivante;
+
+    LecteurFormations(MappingIterator<FormationLigne> lignes, Validator validator, FormationApiMapper mapper) {
+        this.lignes = lignes;
+        this.validator = validator;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (suivante == null) {
+            FormationLigne ligne;
+            try {
+                if (!lignes.hasNextValue()) return false;
+                numeroLigne++;
+                ligne = lignes.nextValue();
+            } catch (JsonMappingException e) {
+                // Valeur du mauvais type (prix "abc", date mal écrite...) : seule cette ligne est sautée
+                noterErreur(e.getOriginalMessage());
+                continue;
+            } catch (IOException e) {
+                // Fichier mal formé : on ne sait pas où reprendre, les lots déjà écrits restent en base
+                throw new IllegalArgumentException("Ligne " + numeroLigne + " illisible : " + e.getMessage(), e);
+            }
+
+            Set<ConstraintViolation<FormationLigne>> violations = validator.validate(ligne);
+            if (violations.isEmpty()) {
+                suivante = mapper.toDomain(ligne);
+            } else {
+                noterErreur(violations.stream()
+                        .map(v -> v.getPropertyPath() + " : " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Formation next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Formation formation = suivante;
+        suivante = null;
+        return formation;
+    }
+
+    List<String> erreurs() {
+        return erreurs;
+    }
+
+    int nombreErreurs() {
+        return nombreErreurs;
+    }
+
+    int nombreLignes() {
+        return numeroLigne;
+    }
+
+    private void noterErreur(String detail) {
+        nombreErreurs++;
+        if (erreurs.size() < ERREURS_MAX) {
+            erreurs.add("Ligne " + numeroLigne + " : " + detail);
+        }
+    }
+}
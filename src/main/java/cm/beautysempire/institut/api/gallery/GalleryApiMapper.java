@@ -2,10 +2,13 @@ package cm.beautysempire.institut.api.gallery;
 
 import cm.beautysempire.institut.domain.gallery.GalleryImage;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface GalleryApiMapper {
 
+    // Statut posé par GalleryImage.preparerTeleversement, jamais par la requête
+    @Mapping(target = "statut", ignore = true)
     GalleryImage toDomain(GalleryUploadRequest request);
 
     GalleryImageResponse toResponse(GalleryImage domain);
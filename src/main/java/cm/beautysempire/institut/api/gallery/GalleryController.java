@@ -2,17 +2,23 @@
 package cm.beautysempire.institut.api.gallery;
 
 import cm.beautysempire.institut.api.shared.ApiResponse;
+import cm.beautysempire.institut.api.shared.CurseurCodec;
+import cm.beautysempire.institut.api.shared.PageCurseurResponse;
 import cm.beautysempire.institut.application.service.GalleryUseCase;
 import cm.beautysempire.institut.domain.gallery.GalleryImage;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/gallery")
 @RequiredArgsConstructor
@@ -22,6 +28,7 @@ public class GalleryController {
     private final GalleryApiMapper mapper;
 
     // 1. UPLOAD (Admin) - Attention au "consumes" et au @ModelAttribute
+    // Le fichier est mis sur disque puis envoyé en arrière-plan : l'image revient EN_ATTENTE (202)
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<GalleryImageResponse>> uploadImage(
             @RequestPart("file") MultipartFile file,
@@ -31,8 +38,33 @@ public class GalleryController {
         GalleryImage savedImage = galleryUseCase.ajouterImage(file, imageDetails);
         GalleryImageResponse response = mapper.toResponse(savedImage);
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.created(response, "Image uploadée avec succès"));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.accepted(response, "Image reçue, envoi en cours"));
+    }
+
+    // 1 bis. UPLOAD D'UN ALBUM (Admin) - mêmes métadonnées pour toutes les photos
+    @PostMapping(value = "/upload/lot", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<List<GalleryImageResponse>>> uploadImages(
+            @RequestPart("files") List<MultipartFile> files,
+            @Valid @ModelAttribute GalleryUploadRequest request) {
+
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("Aucun fichier reçu");
+        }
+        List<GalleryImage> images = galleryUseCase.ajouterImages(files, mapper.toDomain(request));
+        List<GalleryImageResponse> response = images.stream().map(mapper::toResponse).toList();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.accepted(response, images.size() + " images reçues, envoi en cours"));
+    }
+
+    // 1 ter. SUIVI DES ENVOIS (Admin) - ex: /api/gallery/admin/statuts?ids=12,13,14
+    @GetMapping("/admin/statuts")
+    public ResponseEntity<ApiResponse<List<GalleryImageResponse>>> statutsImages(@RequestParam List<Long> ids) {
+        List<GalleryImageResponse> response = galleryUseCase.statutsImages(ids).stream()
+                .map(mapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(response, "Statuts des images"));
     }
 
     // 2. LISTER PUBLIQUES (Frontend public)
@@ -47,6 +79,19 @@ public class GalleryController {
         return ResponseEntity.ok(ApiResponse.success(response, "Galerie récupérée"));
     }
 
+    // 2 bis. LISTER PUBLIQUES PAR CURSEUR (défilement infini du frontend)
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<PageCurseurResponse<GalleryImageResponse>>> defilerImagesPubliques(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Slice<GalleryImage> tranche = galleryUseCase.listerImagesPubliquesApres(CurseurCodec.decoder(after), size);
+        PageCurseurResponse<GalleryImageResponse> response = PageCurseurResponse.of(tranche,
+                mapper::toResponse, i -> new Curseur(i.getDateCreation(), i.getId()));
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Galerie récupérée"));
+    }
+
     // 3. SUPPRIMER (Admin)
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> supprimerImage(@PathVariable Long id) {
@@ -1,5 +1,6 @@
 package cm.beautysempire.institut.api.gallery;
 
+import cm.beautysempire.institut.domain.gallery.StatutImage;
 import lombok.Data;
 import java.time.LocalDateTime;
 
@@ -12,5 +13,6 @@ public class GalleryImageResponse {
     private String categorie;
     private Boolean isPublic;
     private Long formationId;
+    private StatutImage statut; // EN_ATTENTE -> DISPONIBLE ou ECHEC
     private LocalDateTime dateCreation;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package cm.beautysempire.institut.api.message.presentation;
+
+import cm.beautysempire.institut.domain.messages.StatutMessage;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ChangementStatutEnLotRequest {
+
+    // Une sélection de la boîte de réception ; au-delà, l'admin découpe en plusieurs lots
+    @NotEmpty(message = "Au moins un message doit être sélectionné")
+    @Size(max = 500, message = "500 messages au maximum par lot")
+    private List<@NotNull(message = "Identifiant de message manquant") Long> ids;
+
+    @NotNull(message = "Le statut cible est obligatoire")
+    private StatutMessage statut;
+}
@@ -2,11 +2,15 @@ package cm.beautysempire.institut.api.message.presentation;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
 public class ContactCreateRequest {
+    // Longueurs max = tailles des colonnes de la table messages (l'écriture en base est différée :
+    // une valeur trop longue doit être refusée ici, pas découverte par l'écrivain)
     @NotBlank(message = "Le nom est obligatoire")
+    @Size(max = 100, message = "Le nom ne doit pas dépasser 100 caractères")
     private String nom;
 
     // 🔥 Règle V4 : Téléphone obligatoire, format Camerounais
@@ -14,9 +18,13 @@ public class ContactCreateRequest {
     @Pattern(regexp = "^\\+?[1-9]\\d{7,14}$", message = "Format de téléphone invalide (ex: +2376XXXXXXXX)")
     private String telephone;
 
+    @Size(max = 150, message = "L'email ne doit pas dépasser 150 caractères")
     private String email; // Optionnel (WhatsApp-First)
+    @Size(max = 50, message = "La ville ne doit pas dépasser 50 caractères")
     private String ville;
+    @Size(max = 100, message = "Le quartier ne doit pas dépasser 100 caractères")
     private String quartier;
+    @Size(max = 100, message = "Le sujet ne doit pas dépasser 100 caractères")
     private String sujet;
 
     @NotBlank(message = "Le message est obligatoire")
@@ -0,0 +1,27 @@
+package cm.beautysempire.institut.api.message.presentation;
+
+import cm.beautysempire.institut.domain.messages.StatutMessage;
+import cm.beautysempire.institut.domain.messages.TypeMessage;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// Paramètres de filtre de la boîte de réception (?statut=NON_LU&type=PRE_INSCRIPTION&du=2025-01-01&q=...)
+@Data
+public class FiltreMessagesRequest {
+
+    private StatutMessage statut;
+    private TypeMessage type;
+    private Long formationId;
+
+    // Période en jours entiers, bornes incluses
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate du;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate au;
+
+    // Nom (sans tenir compte de la casse) ou numéro de téléphone
+    private String q;
+}
@@ -1,6 +1,8 @@
 package cm.beautysempire.institut.api.message.presentation;
 
+import cm.beautysempire.institut.domain.messages.FiltreMessages;
 import cm.beautysempire.institut.domain.messages.Message;
+import cm.beautysempire.institut.domain.messages.ResultatChangementStatut;
 import cm.beautysempire.institut.domain.messages.TypeMessage;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -13,6 +15,7 @@ public interface MessageApiMapper {
     @Mapping(target = "type", expression = "java(TypeMessage.CONTACT_GENERAL)")
     @Mapping(target = "statut", ignore = true)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "reference", ignore = true)
     @Mapping(target = "formationId", ignore = true)
     @Mapping(target = "formationNom", ignore = true)
     @Mapping(target = "dateCreation", ignore = true)
@@ -32,6 +35,7 @@ public interface MessageApiMapper {
     @Mapping(target = "type", expression = "java(TypeMessage.PRE_INSCRIPTION)")
     @Mapping(target = "statut", ignore = true)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "reference", ignore = true)
     @Mapping(target = "formationId", ignore = true)
     @Mapping(target = "formationNom", ignore = true)
     @Mapping(target = "dateCreation", ignore = true)
@@ -52,4 +56,19 @@ public interface MessageApiMapper {
 
     MessageListResponse toListResponse(Message message);
     List<MessageListResponse> toListResponse(List<Message> messages);
+
+    @Mapping(target = "id", source = "messageId")
+    ResultatChangementStatutResponse toResultatResponse(ResultatChangementStatut resultat);
+    List<ResultatChangementStatutResponse> toResultatResponse(List<ResultatChangementStatut> resultats);
+
+    // "au" inclus : la borne exclue est le lendemain à minuit
+    default FiltreMessages toFiltre(FiltreMessagesRequest request) {
+        return new FiltreMessages(
+                request.getStatut(),
+                request.getType(),
+                request.getFormationId(),
+                request.getDu() != null ? request.getDu().atStartOfDay() : null,
+                request.getAu() != null ? request.getAu().plusDays(1).atStartOfDay() : null,
+                request.getQ());
+    }
 }
\ No newline at end of file
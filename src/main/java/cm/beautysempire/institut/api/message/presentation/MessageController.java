@@ -1,15 +1,22 @@
 package cm.beautysempire.institut.api.message.presentation;
 
 import cm.beautysempire.institut.api.shared.ApiResponse;
+import cm.beautysempire.institut.api.shared.CurseurCodec;
+import cm.beautysempire.institut.api.shared.PageCurseurResponse;
 import cm.beautysempire.institut.application.service.MessageUseCase;
 import cm.beautysempire.institut.domain.messages.Message;
+import cm.beautysempire.institut.domain.messages.ResultatChangementStatut;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/messages")
 @RequiredArgsConstructor
@@ -21,44 +28,76 @@ public class MessageController {
     @PostMapping("/contact")
     public ResponseEntity<ApiResponse<MessageResponse>> soumettreContact(@Valid @RequestBody ContactCreateRequest request) {
         Message message = messageApiMapper.toDomain(request);
-        Message savedMessage = messageUseCase.soumettreContact(message);
-        String whatsappLink = messageUseCase.genererLienWhatsAppClient(savedMessage);
+        Message acceptedMessage = messageUseCase.soumettreContact(message);
+        String whatsappLink = messageUseCase.genererLienWhatsAppClient(acceptedMessage);
 
-        MessageResponse response = messageApiMapper.toResponse(savedMessage, whatsappLink);
+        MessageResponse response = messageApiMapper.toResponse(acceptedMessage, whatsappLink);
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.created(response, "Message soumis avec succès"));
+        // 202 : le message est enregistré en différé, la référence permet de le retrouver
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.accepted(response, "Message soumis avec succès"));
     }
 
     @PostMapping("/pre-inscription")
     public ResponseEntity<ApiResponse<MessageResponse>> soumettrePreInscription(@Valid @RequestBody PreInscriptionRequest request) {
         Message message = messageApiMapper.toDomain(request);
-        Message savedMessage = messageUseCase.soumettrePreInscription(message, request.getFormationId());
-        String whatsappLink = messageUseCase.genererLienWhatsAppClient(savedMessage);
+        Message acceptedMessage = messageUseCase.soumettrePreInscription(message, request.getFormationId());
+        String whatsappLink = messageUseCase.genererLienWhatsAppClient(acceptedMessage);
 
-        MessageResponse response = messageApiMapper.toResponse(savedMessage, whatsappLink);
+        MessageResponse response = messageApiMapper.toResponse(acceptedMessage, whatsappLink);
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.created(response, "Pré-inscription enregistrée avec succès"));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.accepted(response, "Pré-inscription enregistrée avec succès"));
     }
 
+    // Filtres facultatifs et combinables (FiltreMessagesRequest), appliqués en base
     @GetMapping
     public ResponseEntity<ApiResponse<Page<MessageListResponse>>> listerMessages(
+            FiltreMessagesRequest filtre,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        Page<Message> messagesPage = messageUseCase.listerMessagesPagines(page, size);
+        Page<Message> messagesPage = messageUseCase.listerMessagesPagines(messageApiMapper.toFiltre(filtre), page, size);
         Page<MessageListResponse> responsePage = messagesPage.map(messageApiMapper::toListResponse);
 
         return ResponseEntity.ok(ApiResponse.success(responsePage, "Liste des messages récupérée"));
     }
 
+    // Variante par curseur : parcourir la boîte de réception en profondeur coûte autant que la première page
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<PageCurseurResponse<MessageListResponse>>> defilerMessages(
+            FiltreMessagesRequest filtre,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Slice<Message> tranche = messageUseCase.listerMessagesApres(messageApiMapper.toFiltre(filtre),
+                CurseurCodec.decoder(after), size);
+        PageCurseurResponse<MessageListResponse> response = PageCurseurResponse.of(tranche,
+                messageApiMapper::toListResponse, m -> new Curseur(m.getDateCreation(), m.getId()));
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Liste des messages récupérée"));
+    }
+
     @GetMapping("/stats/non-lus")
     public ResponseEntity<ApiResponse<Long>> compterNonLus() {
         Long response = messageUseCase.compterMessagesNonLus();
         return ResponseEntity.ok(ApiResponse.success(response, "Statistiques récupérées avec succès"));
     }
 
+    // Même règle de transition que les routes unitaires ci-dessous, appliquée en une requête à toute la sélection ;
+    // 200 même si certains messages sont refusés ou introuvables : l'issue est donnée message par message
+    @PatchMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<ResultatChangementStatutResponse>>> changerStatutEnLot(
+            @Valid @RequestBody ChangementStatutEnLotRequest request) {
+        List<ResultatChangementStatut> resultats =
+                messageUseCase.changerStatutEnLot(request.getIds(), request.getStatut(), "admin");
+        long modifies = resultats.stream()
+                .filter(resultat -> resultat.issue() == ResultatChangementStatut.Issue.MODIFIE)
+                .count();
+        return ResponseEntity.ok(ApiResponse.success(messageApiMapper.toResultatResponse(resultats),
+                modifies + " message(s) sur " + resultats.size() + " mis à jour"));
+    }
+
     @PatchMapping("/{id}/lu")
     public ResponseEntity<ApiResponse<MessageListResponse>> marquerCommeLu(@PathVariable Long id) {
         Message message = messageUseCase.marquerCommeLu(id, "admin");
@@ -6,7 +6,8 @@ import lombok.Data;
 @Data
 @Builder
 public class MessageResponse {
-    private Long id;
+    private Long id;            // null tant que le message est en file d'attente
+    private String reference;   // Référence de la demande, connue dès l'acceptation
     private String nom;
     private String telephone;
     private String formationNom;
@@ -3,19 +3,25 @@ package cm.beautysempire.institut.api.message.presentation;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
 public class PreInscriptionRequest {
+    // Mêmes limites que ContactCreateRequest (colonnes de la table messages)
     @NotBlank(message = "Le nom est obligatoire")
+    @Size(max = 100, message = "Le nom ne doit pas dépasser 100 caractères")
     private String nom;
 
     @NotBlank(message = "Le téléphone est obligatoire")
     @Pattern(regexp = "^\\+?[1-9]\\d{7,14}$", message = "Format de téléphone invalide (ex: +2376XXXXXXXX)")
     private String telephone;
 
+    @Size(max = 150, message = "L'email ne doit pas dépasser 150 caractères")
     private String email; // Optionnel
+    @Size(max = 50, message = "La ville ne doit pas dépasser 50 caractères")
     private String ville;
+    @Size(max = 100, message = "Le quartier ne doit pas dépasser 100 caractères")
     private String quartier;
 
     @NotNull(message = "L'ID de la formation est obligatoire")
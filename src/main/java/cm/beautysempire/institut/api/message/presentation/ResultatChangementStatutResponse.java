@@ -0,0 +1,13 @@
+package cm.beautysempire.institut.api.message.presentation;
+
+import cm.beautysempire.institut.domain.messages.ResultatChangementStatut;
+import cm.beautysempire.institut.domain.messages.StatutMessage;
+import lombok.Data;
+
+@Data
+public class ResultatChangementStatutResponse {
+    private Long id;
+    private ResultatChangementStatut.Issue issue;
+    // Statut avant la demande (null si le message n'existe pas)
+    private StatutMessage statutPrecedent;
+}
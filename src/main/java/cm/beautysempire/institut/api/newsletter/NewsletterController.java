@@ -2,11 +2,15 @@
 package cm.beautysempire.institut.api.newsletter;
 
 import cm.beautysempire.institut.api.shared.ApiResponse;
+import cm.beautysempire.institut.api.shared.CurseurCodec;
+import cm.beautysempire.institut.api.shared.PageCurseurResponse;
 import cm.beautysempire.institut.application.service.NewsletterUseCase;
 import cm.beautysempire.institut.domain.newsletter.NewsletterSubscription;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -47,6 +51,19 @@ public class NewsletterController {
         return ResponseEntity.ok(ApiResponse.success(response, "Liste des abonnés récupérée"));
     }
 
+    // 2 bis. Lister les abonnés par curseur (Admin)
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<PageCurseurResponse<NewsletterResponse>>> defilerAbonnes(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Slice<NewsletterSubscription> tranche = newsletterUseCase.listerAbonnesApres(CurseurCodec.decoder(after), size);
+        PageCurseurResponse<NewsletterResponse> response = PageCurseurResponse.of(tranche,
+                mapper::toResponse, s -> new Curseur(s.getDateInscription(), s.getId()));
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Liste des abonnés récupérée"));
+    }
+
     // 3. Marquer comme contacté (Admin)
     @PatchMapping("/{id}/contacte")
     public ResponseEntity<ApiResponse<NewsletterResponse>> marquerCommeContacte(@PathVariable Long id) {
@@ -58,6 +58,16 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    // Pour une demande acceptée mais traitée en différé (202 Accepted)
+    public static <T> ApiResponse<T> accepted(T data, String message) {
+        return ApiResponse.<T>builder()
+                .success(true)
+                .statusCode(HttpStatus.ACCEPTED.value())
+                .message(message)
+                .data(data)
+                .build();
+    }
+
     // Pour les erreurs (400, 404, 500...)
     public static <T> ApiResponse<T> error(String message, HttpStatus status, Object errorDetails) {
         return ApiResponse.<T>builder()
@@ -0,0 +1,39 @@
+package cm.beautysempire.institut.api.shared;
+
+import cm.beautysempire.institut.domain.shared.Curseur;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Encode la position (date, id) dans un jeton opaque pour le paramètre "after".
+// Le client ne doit jamais construire ce jeton lui-même : il renvoie simplement le "nextCursor" reçu.
+public final class CurseurCodec {
+
+    private static final String SEPARATEUR = "|";
+
+    private CurseurCodec() {
+    }
+
+    public static String encoder(Curseur curseur) {
+        String brut = curseur.date() + SEPARATEUR + curseur.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(brut.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Retourne null pour un jeton absent : c'est la première page
+    public static Curseur decoder(String jeton) {
+        if (jeton == null || jeton.isBlank()) {
+            return null;
+        }
+        try {
+            String brut = new String(Base64.getUrlDecoder().decode(jeton), StandardCharsets.UTF_8);
+            int separateur = brut.lastIndexOf(SEPARATEUR);
+            return new Curseur(
+                    LocalDateTime.parse(brut.substring(0, separateur)),
+                    Long.valueOf(brut.substring(separateur + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Curseur de pagination invalide");
+        }
+    }
+}
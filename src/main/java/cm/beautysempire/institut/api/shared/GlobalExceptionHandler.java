@@ -1,8 +1,12 @@
 package cm.beautysempire.institut.api.shared;
 
+import cm.beautysempire.institut.application.exception.FileMessagesSatureeException;
 import cm.beautysempire.institut.application.exception.FormationCompleteException;
 import cm.beautysempire.institut.application.exception.FormationNotFoundException;
+import cm.beautysempire.institut.application.exception.SessionAdminExpireeException;
+import cm.beautysempire.institut.application.exception.SlugDejaPrisException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -48,6 +52,31 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), HttpStatus.BAD_REQUEST, null));
     }
 
+    // 3 bis. Session admin trop ancienne pour être prolongée : il faut se reconnecter
+    @ExceptionHandler(SessionAdminExpireeException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSessionExpiree(SessionAdminExpireeException ex) {
+        log.info("Rafraîchissement refusé : {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.UNAUTHORIZED, null));
+    }
+
+    // 3 ter. File de réception pleine : le client peut réessayer un peu plus tard
+    @ExceptionHandler(FileMessagesSatureeException.class)
+    public ResponseEntity<ApiResponse<Void>> handleFileSaturee(FileMessagesSatureeException ex) {
+        log.warn("Message refusé : {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, null));
+    }
+
+    // 3 quater. Slug encore en conflit après le nouvel essai (créations simultanées sur plusieurs instances)
+    @ExceptionHandler(SlugDejaPrisException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSlugDejaPris(SlugDejaPrisException ex) {
+        log.warn("Création de formation refusée : {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("Conflit lors de la création de la formation, veuillez réessayer.", HttpStatus.CONFLICT, null));
+    }
+
     // 4. Gère toutes les autres erreurs inattendues (Erreur 500)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleAllUncaughtException(Exception ex) {
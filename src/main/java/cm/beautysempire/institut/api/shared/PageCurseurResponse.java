@@ -0,0 +1,29 @@
+package cm.beautysempire.institut.api.shared;
+
+import cm.beautysempire.institut.domain.shared.Curseur;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Réponse des listes en mode curseur : pas de total ni de numéro de page,
+// seulement le jeton à renvoyer dans "after" pour obtenir la suite
+@Getter
+@AllArgsConstructor
+public class PageCurseurResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public static <D, R> PageCurseurResponse<R> of(Slice<D> tranche, Function<D, R> mapper, Function<D, Curseur> position) {
+        List<D> contenu = tranche.getContent();
+        String suivant = tranche.hasNext() && !contenu.isEmpty()
+                ? CurseurCodec.encoder(position.apply(contenu.get(contenu.size() - 1)))
+                : null;
+        return new PageCurseurResponse<>(contenu.stream().map(mapper).toList(), tranche.getSize(), tranche.hasNext(), suivant);
+    }
+}
@@ -2,11 +2,15 @@
 package cm.beautysempire.institut.api.testimonial;
 
 import cm.beautysempire.institut.api.shared.ApiResponse;
+import cm.beautysempire.institut.api.shared.CurseurCodec;
+import cm.beautysempire.institut.api.shared.PageCurseurResponse;
 import cm.beautysempire.institut.application.service.TestimonialUseCase;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import cm.beautysempire.institut.domain.testimonial.Testimonial;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -38,6 +42,22 @@ public class TestimonialController {
         return ResponseEntity.ok(ApiResponse.success(response, "Tous les témoignages"));
     }
 
+    @GetMapping("/scroll") // Public
+    public ResponseEntity<ApiResponse<PageCurseurResponse<TestimonialResponse>>> defilerPublies(
+            @RequestParam(required = false) String after, @RequestParam(defaultValue = "10") int size) {
+        Slice<Testimonial> tranche = useCase.listerPubliesApres(CurseurCodec.decoder(after), size);
+        return ResponseEntity.ok(ApiResponse.success(
+                PageCurseurResponse.of(tranche, mapper::toResponse, TestimonialController::position), "Témoignages publics"));
+    }
+
+    @GetMapping("/admin/scroll") // Admin
+    public ResponseEntity<ApiResponse<PageCurseurResponse<TestimonialResponse>>> defilerTous(
+            @RequestParam(required = false) String after, @RequestParam(defaultValue = "20") int size) {
+        Slice<Testimonial> tranche = useCase.listerTousApres(CurseurCodec.decoder(after), size);
+        return ResponseEntity.ok(ApiResponse.success(
+                PageCurseurResponse.of(tranche, mapper::toResponse, TestimonialController::position), "Tous les témoignages"));
+    }
+
     @PatchMapping("/{id}/publier")
     public ResponseEntity<ApiResponse<TestimonialResponse>> togglePublication(@PathVariable Long id) {
         Testimonial updated = useCase.togglePublication(id);
@@ -49,4 +69,8 @@ public class TestimonialController {
         useCase.supprimer(id);
         return ResponseEntity.ok(ApiResponse.success("Témoignage supprimé"));
     }
+
+    private static Curseur position(Testimonial t) {
+        return new Curseur(t.getDateCreation(), t.getId());
+    }
 }
\ No newline at end of file
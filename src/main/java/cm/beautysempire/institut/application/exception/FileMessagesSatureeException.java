@@ -0,0 +1,7 @@
+package cm.beautysempire.institut.application.exception;
+
+public class FileMessagesSatureeException extends RuntimeException {
+    public FileMessagesSatureeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package cm.beautysempire.institut.application.exception;
+
+public class SessionAdminExpireeException extends RuntimeException {
+    public SessionAdminExpireeException(String message) {
+        super(message);
+    }
+}
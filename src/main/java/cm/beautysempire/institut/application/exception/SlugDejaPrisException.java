@@ -0,0 +1,7 @@
+package cm.beautysempire.institut.application.exception;
+
+public class SlugDejaPrisException extends RuntimeException {
+    public SlugDejaPrisException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package cm.beautysempire.institut.application.port;
+
+public interface CompteurVuesPort {
+
+    // Enregistre une vue en mémoire : elle sera écrite en base plus tard, par lot
+    void enregistrerVue(Long formationId);
+
+    // Écrit immédiatement en base toutes les vues encore en attente
+    void vider();
+}
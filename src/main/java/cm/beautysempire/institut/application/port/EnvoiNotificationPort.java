@@ -0,0 +1,11 @@
+package cm.beautysempire.institut.application.port;
+
+import cm.beautysempire.institut.domain.messages.CanalNotification;
+import cm.beautysempire.institut.domain.messages.Message;
+
+public interface EnvoiNotificationPort {
+
+    // Appelé hors de la requête, par le dispatcheur de la boîte d'envoi.
+    // Toute exception vaut échec : la notification est reprogrammée avec une attente croissante.
+    void envoyer(CanalNotification canal, Message message);
+}
@@ -0,0 +1,10 @@
+package cm.beautysempire.institut.application.port;
+
+import cm.beautysempire.institut.domain.messages.Message;
+
+public interface FileMessagesPort {
+
+    // Accepte le message pour une écriture différée en base. Quand cette méthode rend la main,
+    // le message est déjà en sécurité (journal local) ; lève FileMessagesSatureeException si la file est pleine.
+    void deposer(Message message);
+}
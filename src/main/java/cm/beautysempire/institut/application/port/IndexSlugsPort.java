@@ -0,0 +1,13 @@
+package cm.beautysempire.institut.application.port;
+
+public interface IndexSlugsPort {
+
+    // Réserve le slug demandé, ou la première variante libre ("-2", "-3"...) : deux appels ne rendent jamais le même
+    String reserver(String slugSouhaite);
+
+    // Rend un slug réservé dont la formation n'a finalement pas été enregistrée
+    void liberer(String slug);
+
+    // Ajoute les slugs présents en base, dont ceux pris par une autre instance depuis le chargement
+    void recharger();
+}
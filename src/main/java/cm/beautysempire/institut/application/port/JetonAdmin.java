@@ -0,0 +1,7 @@
+package cm.beautysempire.institut.application.port;
+
+import java.time.Instant;
+
+// Jeton d'accès admin signé, prêt à être renvoyé au client
+public record JetonAdmin(String valeur, Instant expiration) {
+}
@@ -0,0 +1,9 @@
+package cm.beautysempire.institut.application.port;
+
+import java.time.Instant;
+
+public interface JetonAdminPort {
+
+    // Signe un jeton pour l'admin ; debutSession est conservé d'un rafraîchissement à l'autre
+    JetonAdmin emettre(String admin, Instant debutSession, Instant expiration);
+}
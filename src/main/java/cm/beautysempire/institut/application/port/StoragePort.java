@@ -1,10 +1,11 @@
 package cm.beautysempire.institut.application.port;
 
-import org.springframework.web.multipart.MultipartFile;
+import java.nio.file.Path;
 
 public interface StoragePort {
+    // Envoie le fichier (lu en flux depuis le disque, jamais chargé entier en mémoire)
     // Retourne un tableau de String : [0] = URL publique, [1] = Public ID (pour la suppression)
-    String[] uploadImage(MultipartFile file, String dossier);
+    String[] uploadImage(Path fichier, String dossier);
 
     void deleteImage(String publicId);
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package cm.beautysempire.institut.application.service;
+
+import cm.beautysempire.institut.application.exception.SessionAdminExpireeException;
+import cm.beautysempire.institut.application.port.JetonAdmin;
+import cm.beautysempire.institut.application.port.JetonAdminPort;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class AuthUseCase {
+
+    private final JetonAdminPort jetonAdminPort;
+    private final Duration validiteJeton;
+    private final Duration dureeMaxSession;
+
+    // 1. Connexion (identifiants déjà vérifiés en Basic) : ouvre une nouvelle session
+    public JetonAdmin ouvrirSession(String admin) {
+        Instant maintenant = Instant.now();
+        return jetonAdminPort.emettre(admin, maintenant, maintenant.plus(validiteJeton));
+    }
+
+    // 2. Rafraîchissement avec un jeton encore valide : la session garde sa date de début,
+    // un jeton volé ne peut donc pas être prolongé indéfiniment
+    public JetonAdmin prolongerSession(String admin, Instant debutSession) {
+        Instant maintenant = Instant.now();
+        Instant finSession = debutSession.plus(dureeMaxSession);
+        if (!maintenant.isBefore(finSession)) {
+            throw new SessionAdminExpireeException("Session expirée : veuillez vous reconnecter.");
+        }
+
+        Instant expiration = maintenant.plus(validiteJeton);
+        if (expiration.isAfter(finSession)) {
+            expiration = finSession;
+        }
+        return jetonAdminPort.emettre(admin, debutSession, expiration);
+    }
+}
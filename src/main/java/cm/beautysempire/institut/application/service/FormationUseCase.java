@@ -2,20 +2,42 @@ package cm.beautysempire.institut.application.service;
 
 import cm.beautysempire.institut.application.exception.FormationCompleteException;
 import cm.beautysempire.institut.application.exception.FormationNotFoundException;
+import cm.beautysempire.institut.application.exception.SlugDejaPrisException;
+import cm.beautysempire.institut.application.port.CompteurVuesPort;
+import cm.beautysempire.institut.application.port.IndexSlugsPort;
+import cm.beautysempire.institut.domain.formation.BilanImport;
+import cm.beautysempire.institut.domain.formation.CarteFormation;
 import cm.beautysempire.institut.domain.formation.Formation;
 import cm.beautysempire.institut.domain.formation.FormationRepositoryPort;
+import cm.beautysempire.institut.domain.formation.ResultatRechercheFormation;
+import cm.beautysempire.institut.domain.formation.SlugFormation;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 
 @RequiredArgsConstructor
 public class FormationUseCase {
 
+    // Formations écrites par transaction lors d'un import
+    private static final int TAILLE_LOT_IMPORT = 200;
+
     private final FormationRepositoryPort formationRepositoryPort;
+    private final CompteurVuesPort compteurVuesPort;
+    private final StatistiquesUseCase statistiquesUseCase;
+    private final IndexSlugsPort indexSlugsPort;
 
     public Formation creerFormation(Formation formation, String admin) {
         // 🔥 On vérifie si le nom existe déjà
@@ -24,20 +46,130 @@ public class FormationUseCase {
         }
 
         formation.initialiserCreation(admin);
-        return formationRepositoryPort.save(formation);
+        Formation saved = ecrireAvecSlugs(List.of(formation), () -> formationRepositoryPort.save(formation));
+        statistiquesUseCase.formationActiveeOuDesactivee(false, Boolean.TRUE.equals(saved.getActive()));
+        return saved;
     }
 
-    public void enregistrerInscription(Long formationId) {
-        Formation formation = formationRepositoryPort.findById(formationId)
-                .orElseThrow(() -> new FormationNotFoundException(formationId));
+    // Import en masse : les formations sont consommées au fil de la lecture, par lots.
+    // Par lot : une requête pour écarter les noms déjà en base, puis une insertion groupée.
+    // Un lot écrit reste écrit si un lot suivant échoue.
+    public BilanImport importerFormations(Iterator<Formation> formations, String admin) {
+        Set<String> nomsVus = new HashSet<>();
+        List<String> doublons = new ArrayList<>();
+        List<Formation> lot = new ArrayList<>(TAILLE_LOT_IMPORT);
+        int creees = 0;
 
-        // L'entité valide ses propres règles métier
-        if (!formation.peutSInscrire()) {
-            throw new FormationCompleteException("Impossible de s'inscrire : la formation est complète ou inactive.");
+        while (formations.hasNext()) {
+            lot.add(formations.next());
+            if (lot.size() == TAILLE_LOT_IMPORT) {
+                creees += importerLot(lot, nomsVus, doublons, admin);
+                lot.clear();
+            }
+        }
+        if (!lot.isEmpty()) {
+            creees += importerLot(lot, nomsVus, doublons, admin);
         }
 
-        formation.ajouterInscriptionReelle();
-        formationRepositoryPort.save(formation);
+        if (creees > 0) {
+            statistiquesUseCase.invalider();
+        }
+        return new BilanImport(creees, doublons);
+    }
+
+    private int importerLot(List<Formation> lot, Set<String> nomsVus, List<String> doublons, String admin) {
+        // 1: Doublons à l'intérieur du fichier (même règle que existsByNom : sans tenir compte de la casse)
+        List<Formation> candidates = new ArrayList<>(lot.size());
+        for (Formation formation : lot) {
+            if (nomsVus.add(cleNom(formation))) {
+                candidates.add(formation);
+            } else {
+                doublons.add(formation.getNom());
+            }
+        }
+
+        // 2: Doublons avec la base, en une requête pour tout le lot
+        Set<String> existants = formationRepositoryPort.findNomsExistants(candidates.stream().map(this::cleNom).toList());
+        List<Formation> nouvelles = new ArrayList<>(candidates.size());
+        for (Formation formation : candidates) {
+            if (existants.contains(cleNom(formation))) {
+                doublons.add(formation.getNom());
+            } else {
+                nouvelles.add(formation);
+            }
+        }
+        if (nouvelles.isEmpty()) return 0;
+
+        // 3: Slugs uniques réservés avant l'insertion, comme pour une création unitaire
+        for (Formation formation : nouvelles) {
+            formation.initialiserCreation(admin);
+        }
+        return ecrireAvecSlugs(nouvelles, () -> formationRepositoryPort.insererEnLot(nouvelles)).size();
+    }
+
+    // Slugs réservés dans l'index puis écriture. L'index ne connaît que les créations de cette instance :
+    // si une autre a pris le même slug entre-temps, l'index est complété depuis la base,
+    // les slugs réservés à nouveau et l'écriture retentée une fois.
+    private <T> T ecrireAvecSlugs(List<Formation> formations, Supplier<T> ecriture) {
+        List<String> souhaites = formations.stream().map(this::slugSouhaite).toList();
+        reserverSlugs(formations, souhaites);
+        try {
+            return ecriture.get();
+        } catch (SlugDejaPrisException e) {
+            libererSlugs(formations);
+            indexSlugsPort.recharger();
+            reserverSlugs(formations, souhaites);
+        } catch (RuntimeException e) {
+            libererSlugs(formations);
+            throw e;
+        }
+
+        try {
+            return ecriture.get();
+        } catch (RuntimeException e) {
+            libererSlugs(formations);
+            throw e;
+        }
+    }
+
+    // Slug fourni (seed, import) ou dérivé du nom : dans les deux cas normalisé puis rendu unique avant l'INSERT
+    private String slugSouhaite(Formation formation) {
+        String souhaite = formation.getSlug() == null || formation.getSlug().isBlank()
+                ? formation.getNom()
+                : formation.getSlug();
+        return SlugFormation.depuis(souhaite);
+    }
+
+    private void reserverSlugs(List<Formation> formations, List<String> souhaites) {
+        for (int i = 0; i < formations.size(); i++) {
+            formations.get(i).setSlug(indexSlugsPort.reserver(souhaites.get(i)));
+        }
+    }
+
+    private void libererSlugs(List<Formation> formations) {
+        formations.forEach(f -> indexSlugsPort.liberer(f.getSlug()));
+    }
+
+    private String cleNom(Formation formation) {
+        return formation.getNom().toLowerCase(Locale.ROOT);
+    }
+
+    // Export : chaque formation est passée à l'appelant dès sa lecture
+    public void exporterFormations(Consumer<Formation> consommateur) {
+        formationRepositoryPort.parcourirTout(consommateur);
+    }
+
+    public void enregistrerInscription(Long formationId) {
+        // Réservation atomique : les règles de peutSInscrire() sont vérifiées dans le même UPDATE,
+        // pas de lecture-modification-écriture donc pas de conflit de version entre deux élèves
+        if (formationRepositoryPort.reserverPlace(formationId)) {
+            return;
+        }
+
+        // Échec (cas rare) : on distingue la formation introuvable de la formation complète
+        formationRepositoryPort.findById(formationId)
+                .orElseThrow(() -> new FormationNotFoundException(formationId));
+        throw new FormationCompleteException("Impossible de s'inscrire : la formation est complète ou inactive.");
     }
 
     public Formation modifierFormation(Long id, Formation nouvellesInfos, String admin){
@@ -60,13 +192,15 @@ public class FormationUseCase {
         Formation formation = formationRepositoryPort.findById(id)
                 .orElseThrow(() -> new FormationNotFoundException(id));
 
+        boolean etaitActive = Boolean.TRUE.equals(formation.getActive());
         formation.desactiver(admin);
         formationRepositoryPort.save(formation);
+        statistiquesUseCase.formationActiveeOuDesactivee(etaitActive, false);
     }
 
-    public Page<Formation> rechercherFormations(String motCle, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "dateCreation"));
-        return formationRepositoryPort.searchActiveFormations(motCle, pageRequest);
+    public Page<ResultatRechercheFormation> rechercherFormations(String motCle, int page, int size) {
+        // Pas de tri imposé : les résultats sont classés par pertinence
+        return formationRepositoryPort.searchActiveFormations(motCle, PageRequest.of(page, size));
     }
 
 
@@ -76,6 +210,17 @@ public class FormationUseCase {
         return formationRepositoryPort.findAllActivePaginated(pageRequest);
     }
 
+    public Page<CarteFormation> listerCartesActives(int page, int size) {
+        // Même ordre que listerFormationsActivesPaginees : la grille et la liste complète restent alignées
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "dateCreation"));
+        return formationRepositoryPort.findCartesActives(pageRequest);
+    }
+
+    public Slice<Formation> listerFormationsActivesApres(Curseur apres, int size) {
+        // Même ordre que la version paginée, mais sans OFFSET ni total : coût constant quelle que soit la page
+        return formationRepositoryPort.findActivesApres(apres, size);
+    }
+
     public Formation obtenirFormationParId(Long id) {
         return formationRepositoryPort.findById(id)
                 .orElseThrow(() -> new FormationNotFoundException(id));
@@ -85,9 +230,9 @@ public class FormationUseCase {
         Formation formation = formationRepositoryPort.findBySlug(slug)
                 .orElseThrow(() -> new FormationNotFoundException(slug));
 
-        // On incrémente les vues à chaque fois qu'on charge la page par le slug
-        formation.incrementerVues();
-        return formationRepositoryPort.save(formation);
+        // La vue est comptée en mémoire puis écrite par lot : la lecture reste une lecture pure
+        compteurVuesPort.enregistrerVue(formation.getId());
+        return formation;
     }
 
 
@@ -95,8 +240,10 @@ public class FormationUseCase {
         Formation formation = formationRepositoryPort.findById(id)
                 .orElseThrow(() -> new FormationNotFoundException(id));
 
+        boolean etaitActive = Boolean.TRUE.equals(formation.getActive());
         formation.activer(admin);
         formationRepositoryPort.save(formation);
+        statistiquesUseCase.formationActiveeOuDesactivee(etaitActive, true);
     }
 
     public Page<Formation> listerToutesFormationsPaginees(int page, int size) {
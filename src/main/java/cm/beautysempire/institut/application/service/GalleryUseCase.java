@@ -3,41 +3,77 @@ package cm.beautysempire.institut.application.service;
 import cm.beautysempire.institut.application.port.StoragePort;
 import cm.beautysempire.institut.domain.gallery.GalleryImage;
 import cm.beautysempire.institut.domain.gallery.GalleryImageRepositoryPort;
+import cm.beautysempire.institut.domain.gallery.StatutImage;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
 @RequiredArgsConstructor
 public class GalleryUseCase {
 
+    private static final String DOSSIER_CLOUDINARY = "ibe/galerie";
+
     private final GalleryImageRepositoryPort galleryRepositoryPort;
     private final StoragePort storagePort;
+    // Pool borné dédié aux envois : la requête HTTP rend la main dès que les fichiers sont sur disque
+    private final Executor executeurEnvois;
+    private final Path dossierTemporaire;
 
     // 1. Ajouter une image (Upload + Sauvegarde DB)
     public GalleryImage ajouterImage(MultipartFile file, GalleryImage imageDetails) {
-        // 1 & 2: On upload et on récupère le tableau de résultats
-        String[] uploadResult = storagePort.uploadImage(file, "ibe/galerie");
-
-        String urlPublique = uploadResult[0]; // L'URL pour afficher l'image
-        String publicId = uploadResult[1];    // L'ID secret pour pouvoir la supprimer plus tard
+        return ajouterImages(List.of(file), imageDetails).get(0);
+    }
 
-        // 3: On met à jour l'objet du domaine
-        imageDetails.setUrl(urlPublique);
-        imageDetails.setCloudinaryPublicId(publicId);
+    // 1 bis. Ajouter un album : chaque fichier devient une image EN_ATTENTE, envoyée en arrière-plan.
+    // Le statut de chaque image se suit ensuite via statutsImages().
+    public List<GalleryImage> ajouterImages(List<MultipartFile> fichiers, GalleryImage modele) {
+        List<GalleryImage> images = new ArrayList<>(fichiers.size());
+        for (MultipartFile file : fichiers) {
+            // 1: Le fichier part sur disque (copie en flux, rien n'est chargé en mémoire)
+            Path fichier = copierSurDisque(file);
 
-        // 4: On initialise les dates et valeurs par défaut
-        imageDetails.initialiserCreation();
+            // 2: La ligne existe tout de suite, sans URL, invisible sur le site
+            GalleryImage image = modele.copie();
+            image.preparerTeleversement();
+            GalleryImage enAttente = galleryRepositoryPort.save(image);
 
-        // 5: On sauvegarde en base de données
-        return galleryRepositoryPort.save(imageDetails);
+            // 3: L'envoi vers Cloudinary se fait hors du thread de la requête
+            try {
+                executeurEnvois.execute(() -> envoyer(enAttente.getId(), fichier));
+            } catch (RejectedExecutionException e) {
+                // Trop d'envois en attente : on ne garde pas le fichier, l'admin verra l'image en ECHEC
+                supprimerFichier(fichier);
+                galleryRepositoryPort.marquerEchec(enAttente.getId());
+                enAttente.setStatut(StatutImage.ECHEC);
+            }
+            images.add(enAttente);
+        }
+        return images;
     }
 
     // 2. Supprimer une image (Cloudinary + DB)
     public void supprimerImage(Long id) {
         GalleryImage image = galleryRepositoryPort.findById(id)
                 .orElseThrow(() -> new RuntimeException("Image introuvable"));
+        // Image encore EN_ATTENTE : pas de public ID, l'envoi en cours nettoiera Cloudinary (cf. envoyer)
         storagePort.deleteImage(image.getCloudinaryPublicId());
         galleryRepositoryPort.deleteById(id);
     }
@@ -47,4 +83,76 @@ public class GalleryUseCase {
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "dateCreation"));
         return galleryRepositoryPort.findAllPublic(pageRequest);
     }
-}
\ No newline at end of file
+
+    // 4. Lister les images publiques par curseur (défilement infini)
+    public Slice<GalleryImage> listerImagesPubliquesApres(Curseur apres, int size) {
+        return galleryRepositoryPort.findPublicApres(apres, size);
+    }
+
+    // 5. Suivi des envois (admin)
+    public List<GalleryImage> statutsImages(Collection<Long> ids) {
+        return galleryRepositoryPort.findAllById(ids);
+    }
+
+    // 6. Envois interrompus par un redémarrage : la ligne passe en ECHEC, le fichier temporaire est supprimé
+    public int solderEnvoisInterrompus(Duration delai) {
+        int lignes = galleryRepositoryPort.marquerEchecEnAttenteAvant(LocalDateTime.now().minus(delai));
+        if (!Files.isDirectory(dossierTemporaire)) return lignes;
+        Instant limite = Instant.now().minus(delai);
+        try (Stream<Path> fichiers = Files.list(dossierTemporaire)) {
+            fichiers.filter(f -> estAnterieur(f, limite)).forEach(this::supprimerFichier);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return lignes;
+    }
+
+    // ==========================================
+    // ENVOI EN ARRIÈRE-PLAN
+    // ==========================================
+
+    private void envoyer(Long id, Path fichier) {
+        try {
+            String[] uploadResult = storagePort.uploadImage(fichier, DOSSIER_CLOUDINARY);
+            String urlPublique = uploadResult[0]; // L'URL pour afficher l'image
+            String publicId = uploadResult[1];    // L'ID secret pour pouvoir la supprimer plus tard
+
+            if (!galleryRepositoryPort.marquerDisponible(id, urlPublique, publicId)) {
+                // Image supprimée (ou soldée) pendant l'envoi : on ne laisse pas d'orphelin sur Cloudinary
+                storagePort.deleteImage(publicId);
+            }
+        } catch (RuntimeException e) {
+            // L'adapter de stockage a déjà journalisé la cause
+            galleryRepositoryPort.marquerEchec(id);
+        } finally {
+            supprimerFichier(fichier);
+        }
+    }
+
+    private Path copierSurDisque(MultipartFile file) {
+        try {
+            Files.createDirectories(dossierTemporaire);
+            Path fichier = Files.createTempFile(dossierTemporaire, "galerie-", ".upload");
+            file.transferTo(fichier);
+            return fichier;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible d'enregistrer le fichier reçu", e);
+        }
+    }
+
+    private boolean estAnterieur(Path fichier, Instant limite) {
+        try {
+            return Files.getLastModifiedTime(fichier).toInstant().isBefore(limite);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void supprimerFichier(Path fichier) {
+        try {
+            Files.deleteIfExists(fichier);
+        } catch (IOException e) {
+            // Sera repris par solderEnvoisInterrompus
+        }
+    }
+}
@@ -2,18 +2,30 @@ package cm.beautysempire.institut.application.service;
 
 import cm.beautysempire.institut.application.exception.FormationCompleteException;
 import cm.beautysempire.institut.application.exception.FormationNotFoundException;
+import cm.beautysempire.institut.application.port.FileMessagesPort;
 import cm.beautysempire.institut.application.port.WhatsAppNotifierPort;
 import cm.beautysempire.institut.domain.formation.Formation;
 import cm.beautysempire.institut.domain.formation.FormationRepositoryPort;
+import cm.beautysempire.institut.domain.messages.FiltreMessages;
 import cm.beautysempire.institut.domain.messages.Message;
 import cm.beautysempire.institut.domain.messages.MessageRepositoryPort;
+import cm.beautysempire.institut.domain.messages.ResultatChangementStatut;
 import cm.beautysempire.institut.domain.messages.StatutMessage;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class MessageUseCase {
@@ -21,15 +33,22 @@ public class MessageUseCase {
     private final MessageRepositoryPort messageRepositoryPort;
     private final FormationRepositoryPort formationRepositoryPort;
     private final WhatsAppNotifierPort whatsAppNotifierPort;
+    private final FileMessagesPort fileMessagesPort;
+    private final StatistiquesUseCase statistiquesUseCase;
+    private final int fenetreBoiteMois;
 
     // 1. Soumettre un simple contact (Question générale)
+    // Le message est accepté puis écrit en base en différé : il n'a pas encore d'id, seulement sa référence.
+    // Le tableau de bord le compte à l'écriture (FileMessagesAdapter) : un message écarté n'y apparaît pas
     public Message soumettreContact(Message message) {
         message.initialiserCreation();
-        return messageRepositoryPort.save(message);
+        fileMessagesPort.deposer(message);
+        return message;
 
     }
 
     // 2. Soumettre une pré-inscription (Liée à une formation)
+    // La formation est lue via le cache du catalogue : pas d'accès base sur le chemin de la requête
     public Message soumettrePreInscription(Message message, Long formationId) {
         Formation formation = formationRepositoryPort.findById(formationId)
                 .orElseThrow(() -> new FormationNotFoundException(formationId));
@@ -42,7 +61,8 @@ public class MessageUseCase {
         message.setFormationNom(formation.getNom());
         message.initialiserCreation();
 
-        return messageRepositoryPort.save(message);
+        fileMessagesPort.deposer(message);
+        return message;
     }
 
     // 3. Générer le lien WhatsApp pour le client
@@ -54,8 +74,9 @@ public class MessageUseCase {
     public Message marquerCommeLu(Long messageId, String admin) {
         Message message = messageRepositoryPort.findById(messageId)
                 .orElseThrow(()-> new RuntimeException("Message avce ID " +messageId + "non trouve"));
+        StatutMessage ancienStatut = message.getStatut();
         message.marquerCommeLu(admin);
-        return messageRepositoryPort.save(message);
+        return enregistrerChangementStatut(message, ancienStatut);
     }
 
 
@@ -66,23 +87,60 @@ public class MessageUseCase {
         return messageRepositoryPort.countByStatut(StatutMessage.NON_LU);
     }
 
-    public Page<Message> listerMessagesPagines(int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "dateCreation"));
-        // Note: Il faudra ajouter findAll(Pageable) dans MessageRepositoryPort et Adapter !
-        return messageRepositoryPort.findAll(pageRequest);
+    // Filtrage côté base : l'id départage les messages de même date (ordre stable, index Flyway V16)
+    public Page<Message> listerMessagesPagines(FiltreMessages filtre, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size,
+                Sort.by(Sort.Direction.DESC, "dateCreation").and(Sort.by(Sort.Direction.DESC, "id")));
+        return messageRepositoryPort.findAll(borneParDefaut(filtre), pageRequest);
+    }
+
+    public Slice<Message> listerMessagesApres(FiltreMessages filtre, Curseur apres, int size) {
+        return messageRepositoryPort.findApres(borneParDefaut(filtre), apres, size);
+    }
+
+    // Sans du/au, la boîte de réception ne lit que les derniers mois : la page comme son count(*) restent
+    // sur les partitions récentes (Flyway V17). Les messages plus anciens, y compris NON_LU/TRAITE que
+    // l'archivage ne déplace pas, restent accessibles avec une période explicite.
+    private FiltreMessages borneParDefaut(FiltreMessages filtre) {
+        return filtre.bornerSansPeriode(LocalDate.now().minusMonths(fenetreBoiteMois).atStartOfDay());
     }
 
     public Message marquerCommeTraite(Long messageId, String admin) {
         Message message = messageRepositoryPort.findById(messageId)
                 .orElseThrow(() -> new RuntimeException("Message non trouvé"));
+        StatutMessage ancienStatut = message.getStatut();
         message.marquerCommeTraite(admin);
-        return messageRepositoryPort.save(message);
+        return enregistrerChangementStatut(message, ancienStatut);
     }
 
     public Message marquerCommeArchive(Long messageId, String admin) {
         Message message = messageRepositoryPort.findById(messageId)
                 .orElseThrow(() -> new RuntimeException("Message non trouvé"));
+        StatutMessage ancienStatut = message.getStatut();
         message.marquerCommeArchive(admin);
-        return messageRepositoryPort.save(message);
+        return enregistrerChangementStatut(message, ancienStatut);
+    }
+
+    // Tri de la boîte de réception : une seule requête pour toute une page de messages.
+    // Le résultat suit l'ordre des ids demandés (doublons ignorés), un id inconnu est INTROUVABLE.
+    public List<ResultatChangementStatut> changerStatutEnLot(List<Long> messageIds, StatutMessage nouveauStatut, String admin) {
+        Set<Long> ids = new LinkedHashSet<>(messageIds);
+        Map<Long, ResultatChangementStatut> parId = messageRepositoryPort
+                .changerStatutEnLot(ids, nouveauStatut, admin, LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(ResultatChangementStatut::messageId, Function.identity()));
+
+        parId.values().stream()
+                .filter(resultat -> resultat.issue() == ResultatChangementStatut.Issue.MODIFIE)
+                .forEach(resultat -> statistiquesUseCase.statutMessageChange(resultat.statutPrecedent(), nouveauStatut));
+
+        return ids.stream()
+                .map(id -> parId.getOrDefault(id, ResultatChangementStatut.introuvable(id)))
+                .toList();
+    }
+
+    private Message enregistrerChangementStatut(Message message, StatutMessage ancienStatut) {
+        Message saved = messageRepositoryPort.save(message);
+        statistiquesUseCase.statutMessageChange(ancienStatut, saved.getStatut());
+        return saved;
     }
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package cm.beautysempire.institut.application.service;
 import cm.beautysempire.institut.application.port.WhatsAppNotifierPort;
 import cm.beautysempire.institut.domain.newsletter.NewsletterSubscription;
 import cm.beautysempire.institut.domain.newsletter.NewsletterRepositoryPort;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 @RequiredArgsConstructor
@@ -13,14 +15,15 @@ public class NewsletterUseCase {
 
     private final NewsletterRepositoryPort repositoryPort;
     private final WhatsAppNotifierPort whatsAppNotifierPort;
+    private final StatistiquesUseCase statistiquesUseCase;
 
     public NewsletterSubscription souscrire(NewsletterSubscription subscription) {
-        // On évite les doublons de numéros de téléphone
-        if (repositoryPort.existsByTelephone(subscription.getTelephone())) {
-            throw new IllegalArgumentException("Ce numéro de téléphone est déjà inscrit.");
-        }
+        // Un seul aller-retour : c'est l'index unique qui écarte les doublons, même sous envois simultanés
         subscription.initialiser();
-        return repositoryPort.save(subscription);
+        NewsletterSubscription saved = repositoryPort.inscrireSiNouveau(subscription)
+                .orElseThrow(() -> new IllegalArgumentException("Ce numéro de téléphone est déjà inscrit."));
+        statistiquesUseCase.abonneAjoute();
+        return saved;
     }
 
     public Page<NewsletterSubscription> listerAbonnes(int page, int size) {
@@ -28,6 +31,10 @@ public class NewsletterUseCase {
         return repositoryPort.findAll(pageRequest);
     }
 
+    public Slice<NewsletterSubscription> listerAbonnesApres(Curseur apres, int size) {
+        return repositoryPort.findApres(apres, size);
+    }
+
     public String genererLienWhatsAppCatalogue() {
         return whatsAppNotifierPort.genererLienCatalogue();
     }
@@ -0,0 +1,99 @@
+package cm.beautysempire.institut.application.service;
+
+import cm.beautysempire.institut.domain.messages.StatutMessage;
+import cm.beautysempire.institut.domain.statistiques.ApercuStatistiques;
+import cm.beautysempire.institut.domain.statistiques.StatistiquesRepositoryPort;
+import cm.beautysempire.institut.domain.statistiques.TendanceJour;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+// Tableau de bord : l'aperçu est gardé en mémoire et ajusté par les autres use cases à chaque écriture.
+// Un recalcul complet (une seule requête) n'a lieu qu'au premier appel, après invalider() ou après dureeMaxCliche,
+// ce qui rattrape les écritures faites hors de l'application.
+public class StatistiquesUseCase {
+
+    private static final int JOURS_MAX_TENDANCES = 366;
+
+    private final StatistiquesRepositoryPort statistiquesRepositoryPort;
+    private final Duration dureeMaxCliche;
+
+    private final AtomicReference<Cliche> cliche = new AtomicReference<>();
+
+    // Incrémenté à chaque variation : un recalcul lancé avant une écriture ne doit pas l'écraser
+    private final AtomicLong generation = new AtomicLong();
+
+    public StatistiquesUseCase(StatistiquesRepositoryPort statistiquesRepositoryPort, Duration dureeMaxCliche) {
+        this.statistiquesRepositoryPort = statistiquesRepositoryPort;
+        this.dureeMaxCliche = dureeMaxCliche;
+    }
+
+    // 1. Lecture (Dashboard Admin)
+    public ApercuStatistiques obtenirApercu() {
+        Cliche actuel = cliche.get();
+        if (actuel != null && actuel.calculeLe().plus(dureeMaxCliche).isAfter(Instant.now())) {
+            return actuel.apercu();
+        }
+
+        long generationLecture = generation.get();
+        ApercuStatistiques apercu = statistiquesRepositoryPort.calculerApercu();
+        Cliche nouveau = new Cliche(apercu, Instant.now());
+        if (generation.get() == generationLecture) {
+            cliche.compareAndSet(actuel, nouveau);
+        }
+        return apercu;
+    }
+
+    public List<TendanceJour> obtenirTendances(int jours) {
+        int nombreJours = Math.max(1, Math.min(jours, JOURS_MAX_TENDANCES));
+        LocalDate fin = LocalDate.now();
+        return statistiquesRepositoryPort.calculerTendances(fin.minusDays(nombreJours - 1L), fin);
+    }
+
+    // 2. Variations signalées par les autres use cases
+    // Appelé après l'écriture en base des messages reçus, pas à leur dépôt dans la file
+    public void messagesRecus(int nombre) {
+        appliquer(apercu -> apercu.avecMessagesNonLus(nombre));
+    }
+
+    public void statutMessageChange(StatutMessage ancien, StatutMessage nouveau) {
+        long delta = (nouveau == StatutMessage.NON_LU ? 1 : 0) - (ancien == StatutMessage.NON_LU ? 1 : 0);
+        if (delta != 0) {
+            appliquer(apercu -> apercu.avecMessagesNonLus(delta));
+        }
+    }
+
+    public void formationActiveeOuDesactivee(boolean etaitActive, boolean estActive) {
+        if (etaitActive != estActive) {
+            appliquer(apercu -> apercu.avecFormationsActives(estActive ? 1 : -1));
+        }
+    }
+
+    public void abonneAjoute() {
+        appliquer(apercu -> apercu.avecAbonnesNewsletter(1));
+    }
+
+    public void temoignageAjoute() {
+        appliquer(apercu -> apercu.avecTemoignages(1));
+    }
+
+    // Quand la variation exacte n'est pas connue : le prochain appel recalcule
+    public void invalider() {
+        generation.incrementAndGet();
+        cliche.set(null);
+    }
+
+    private void appliquer(UnaryOperator<ApercuStatistiques> variation) {
+        generation.incrementAndGet();
+        cliche.updateAndGet(actuel -> actuel == null ? null
+                : new Cliche(variation.apply(actuel.apercu()), actuel.calculeLe()));
+    }
+
+    private record Cliche(ApercuStatistiques apercu, Instant calculeLe) {
+    }
+}
@@ -3,19 +3,24 @@ package cm.beautysempire.institut.application.service;
 
 import cm.beautysempire.institut.domain.testimonial.Testimonial;
 import cm.beautysempire.institut.domain.testimonial.TestimonialRepositoryPort;
+import cm.beautysempire.institut.domain.shared.Curseur;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 @RequiredArgsConstructor
 public class TestimonialUseCase {
     private final TestimonialRepositoryPort port;
+    private final StatistiquesUseCase statistiquesUseCase;
 
 
     public Testimonial creer(Testimonial t) {
         t.initialiserCreation();
-        return port.save(t);
+        Testimonial saved = port.save(t);
+        statistiquesUseCase.temoignageAjoute();
+        return saved;
     }
 
     public Testimonial togglePublication(Long id) {
@@ -26,6 +31,8 @@ public class TestimonialUseCase {
 
     public void supprimer(Long id) {
         port.deleteById(id);
+        // deleteById ne dit pas si une ligne existait : on laisse le tableau de bord recompter
+        statistiquesUseCase.invalider();
     }
 
 
@@ -37,4 +44,12 @@ public class TestimonialUseCase {
     public Page<Testimonial> listerTous(int page, int size) {
         return port.findAll(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "dateCreation")));
     }
+
+    public Slice<Testimonial> listerPubliesApres(Curseur apres, int size) {
+        return port.findPubliesApres(apres, size);
+    }
+
+    public Slice<Testimonial> listerTousApres(Curseur apres, int size) {
+        return port.findApres(apres, size);
+    }
 }
\ No newline at end of file
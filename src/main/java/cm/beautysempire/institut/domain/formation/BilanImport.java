@@ -0,0 +1,7 @@
+package cm.beautysempire.institut.domain.formation;
+
+import java.util.List;
+
+// Résultat d'un import en masse : nombre de formations créées et noms ignorés car déjà présents
+public record BilanImport(int creees, List<String> doublons) {
+}
@@ -0,0 +1,38 @@
+package cm.beautysempire.institut.domain.formation;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Vue "carte" du catalogue : uniquement ce qu'affiche la grille (nom, prix, photo, places).
+// Les textes longs (description, programme...) restent réservés à la page détail.
+public record CarteFormation(
+        Long id,
+        String slug,
+        String nom,
+        String categorie,
+        String duree,
+        BigDecimal prix,
+        Boolean enPromotion,
+        BigDecimal pourcentageReduction,
+        LocalDateTime dateDebutPromo,
+        LocalDateTime dateFinPromo,
+        Integer nombrePlaces,
+        Integer nombreInscritsReel,
+        Integer nombreInscritsAffiche,
+        Boolean socialProofActif,
+        String photoPrincipale) {
+
+    // Calculés à la lecture, comme pour Formation : une carte en cache suit le début et la fin des promos
+
+    public boolean isPromoActive() {
+        return Formation.promoActive(enPromotion, dateDebutPromo, dateFinPromo);
+    }
+
+    public BigDecimal getPrixAvecReduction() {
+        return Formation.prixAvecReduction(prix, pourcentageReduction, isPromoActive());
+    }
+
+    public int getPlacesRestantesAffichees() {
+        return Formation.placesRestantesAffichees(nombrePlaces, socialProofActif, nombreInscritsAffiche, nombreInscritsReel);
+    }
+}
@@ -9,7 +9,7 @@ import java.util.List;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Formation {
@@ -78,14 +78,14 @@ public class Formation {
     }
 
     public int getPlacesRestantesAffichees() {
-        if (nombrePlaces == null || nombreInscritsAffiche == null) return 0;
-        return Math.max(0, nombrePlaces - getNombreInscritsAffichage());
+        return placesRestantesAffichees(nombrePlaces, socialProofActif, nombreInscritsAffiche, nombreInscritsReel);
     }
 
     public int getNombreInscritsAffichage() {
         return (socialProofActif != null && socialProofActif) ? nombreInscritsAffiche : nombreInscritsReel;
     }
 
+    // Règle reprise à l'identique par l'UPDATE atomique de réservation (FormationJpaRepository.reserverPlace)
     public void ajouterInscriptionReelle() {
         this.nombreInscritsReel++;
         this.nombreInscriptions++;
@@ -103,14 +103,31 @@ public class Formation {
     }
 
     public BigDecimal getPrixAvecReduction() {
-        if (!isPromoActive() || pourcentageReduction == null || pourcentageReduction.equals(BigDecimal.ZERO)) {
+        return prixAvecReduction(prix, pourcentageReduction, isPromoActive());
+    }
+
+    public boolean isPromoActive() {
+        return promoActive(enPromotion, dateDebutPromo, dateFinPromo);
+    }
+
+    // Règles d'affichage partagées avec la carte catalogue (CarteFormation), qui n'a pas de Formation complète
+
+    static int placesRestantesAffichees(Integer nombrePlaces, Boolean socialProofActif,
+                                        Integer nombreInscritsAffiche, Integer nombreInscritsReel) {
+        if (nombrePlaces == null || nombreInscritsAffiche == null) return 0;
+        int inscrits = (socialProofActif != null && socialProofActif) ? nombreInscritsAffiche : nombreInscritsReel;
+        return Math.max(0, nombrePlaces - inscrits);
+    }
+
+    static BigDecimal prixAvecReduction(BigDecimal prix, BigDecimal pourcentageReduction, boolean promoActive) {
+        if (!promoActive || pourcentageReduction == null || pourcentageReduction.equals(BigDecimal.ZERO)) {
             return prix;
         }
         BigDecimal reduction = prix.multiply(pourcentageReduction).divide(BigDecimal.valueOf(100));
         return prix.subtract(reduction);
     }
 
-    public boolean isPromoActive() {
+    static boolean promoActive(Boolean enPromotion, LocalDateTime dateDebutPromo, LocalDateTime dateFinPromo) {
         if (enPromotion == null || !enPromotion) return false;
         LocalDateTime now = LocalDateTime.now();
         return (dateDebutPromo == null || now.isAfter(dateDebutPromo)) &&
@@ -135,24 +152,11 @@ public class Formation {
         if (this.enPromotion == null) this.enPromotion = false;
         if (this.pourcentageReduction == null) this.pourcentageReduction = BigDecimal.ZERO;
 
+        // Normalement déjà réservé par FormationUseCase (unicité) ; filet de sécurité sinon
         if (this.slug == null || this.slug.trim().isEmpty()) {
-            this.slug = genererSlug(this.nom);
+            this.slug = SlugFormation.depuis(this.nom);
         }
     }
-    private String genererSlug(String nom) {
-        if (nom == null) return "formation-" + System.currentTimeMillis();
-        return nom.toLowerCase()
-                .replaceAll("[éèêë]", "e")
-                .replaceAll("[àâä]", "a")
-                .replaceAll("[îï]", "i")
-                .replaceAll("[ôö]", "o")
-                .replaceAll("[ùûü]", "u")
-                .replaceAll("[ç]", "c")
-                .replaceAll("[^a-z0-9\\s-]", "") // Retire les caractères spéciaux
-                .replaceAll("\\s+", "-") // Remplace les espaces par des tirets
-                .replaceAll("-+", "-") // Évite les doubles tirets
-                + "-" + (System.currentTimeMillis() % 10000); // Ajoute un ID unique à la fin
-    }
 
 
     public void mettreAJourInfos(Formation nouvellesInfos, String admin){
@@ -1,10 +1,15 @@
 package cm.beautysempire.institut.domain.formation;
 
+import cm.beautysempire.institut.domain.shared.Curseur;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface FormationRepositoryPort {
 
@@ -14,11 +19,22 @@ public interface FormationRepositoryPort {
 
     Optional<Formation> findBySlug(String slug);
 
+    // Réserve une place de façon atomique (mêmes règles que peutSInscrire / ajouterInscriptionReelle).
+    // Retourne false si la formation est introuvable, inactive ou complète.
+    boolean reserverPlace(Long formationId);
+
     Page<Formation> findAllActivePaginated(Pageable pageable);
 
+    // Même liste que findAllActivePaginated, réduite aux colonnes de la grille catalogue
+    Page<CarteFormation> findCartesActives(Pageable pageable);
+
+    // Formations actives (plus récentes d'abord) situées après le curseur ; apres == null pour la première page
+    Slice<Formation> findActivesApres(Curseur apres, int taille);
+
     boolean existsByNom(String nom);
 
-    Page<Formation> searchActiveFormations(String motCle, Pageable pageable);
+    // Recherche plein texte parmi les formations actives, triée par pertinence
+    Page<ResultatRechercheFormation> searchActiveFormations(String motCle, Pageable pageable);
 
     long count();
 
@@ -29,4 +45,15 @@ public interface FormationRepositoryPort {
 
     Page<Formation> searchAdminFormations(String motCle, String status, Pageable pageable);
 
+    // --- Import / export en masse ---
+
+    // Parmi ces noms (en minuscules), ceux déjà pris en base : une seule requête pour tout un lot
+    Set<String> findNomsExistants(Collection<String> nomsMinuscules);
+
+    // Insère le lot en une transaction (requêtes groupées) et renvoie les formations avec leur id
+    List<Formation> insererEnLot(List<Formation> formations);
+
+    // Parcourt toutes les formations (plus anciennes d'abord) sans les charger toutes en mémoire
+    void parcourirTout(Consumer<Formation> consommateur);
+
 }
\ No newline at end of file
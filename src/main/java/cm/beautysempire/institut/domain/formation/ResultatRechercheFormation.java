@@ -0,0 +1,17 @@
+package cm.beautysempire.institut.domain.formation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResultatRechercheFormation {
+
+    private final Formation formation;
+
+    // Pertinence calculée par le moteur de recherche (plus grand = plus pertinent)
+    private final double score;
+
+    // Extrait de la description avec les termes trouvés entourés de <mark>
+    private final String extrait;
+}
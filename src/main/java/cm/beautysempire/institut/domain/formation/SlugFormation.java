@@ -0,0 +1,53 @@
+package cm.beautysempire.institut.domain.formation;
+
+import java.text.Normalizer;
+
+// Transforme un nom de formation en slug d'URL, en un seul passage sur les caractères :
+// "Make-up & Beauté du Regard" -> "make-up-beaute-du-regard".
+// L'unicité n'est pas gérée ici mais par l'index des slugs (IndexSlugsPort).
+public final class SlugFormation {
+
+    // La colonne fait 100 caractères : on garde de la place pour un suffixe "-2", "-3"...
+    public static final int LONGUEUR_MAX = 90;
+
+    private static final String PAR_DEFAUT = "formation";
+
+    private SlugFormation() {
+    }
+
+    public static String depuis(String nom) {
+        if (nom == null || nom.isBlank()) return PAR_DEFAUT;
+
+        // NFD sépare la lettre de son accent (é -> e + ◌́) : il suffit ensuite d'ignorer les accents
+        String decompose = Normalizer.normalize(nom, Normalizer.Form.NFD);
+        StringBuilder slug = new StringBuilder(Math.min(decompose.length(), LONGUEUR_MAX));
+        boolean separateur = false;
+
+        for (int i = 0; i < decompose.length() && slug.length() < LONGUEUR_MAX; i++) {
+            char c = decompose.charAt(i);
+            if (c >= 'A' && c <= 'Z') c = (char) (c + ('a' - 'A'));
+
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (separateur && !slug.isEmpty()) slug.append('-');
+                separateur = false;
+                slug.append(c);
+            } else if (c == 'œ' || c == 'Œ') {
+                if (separateur && !slug.isEmpty()) slug.append('-');
+                separateur = false;
+                slug.append("oe");
+            } else if (c == 'æ' || c == 'Æ') {
+                if (separateur && !slug.isEmpty()) slug.append('-');
+                separateur = false;
+                slug.append("ae");
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                // Espaces, ponctuation, symboles : un seul tiret, jamais en début ni en fin
+                separateur = true;
+            }
+        }
+
+        if (slug.length() > LONGUEUR_MAX) slug.setLength(LONGUEUR_MAX);
+        int fin = slug.length();
+        while (fin > 0 && slug.charAt(fin - 1) == '-') fin--;
+        return fin == 0 ? PAR_DEFAUT : slug.substring(0, fin);
+    }
+}
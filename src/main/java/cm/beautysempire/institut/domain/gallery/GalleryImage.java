@@ -18,6 +18,7 @@ public class GalleryImage {
     private String categorie; // Ex: "ONGLES", "COIFFURE", "MAQUILLAGE"
     private Boolean isPublic;
     private Long formationId; // Optionnel (si l'image est liée à une formation)
+    private StatutImage statut; // EN_ATTENTE tant que le fichier n'est pas arrivé sur le stockage
     private LocalDateTime dateCreation;
 
     public void initialiserCreation() {
@@ -26,4 +27,23 @@ public class GalleryImage {
             this.isPublic = true;
         }
     }
+
+    // La ligne est créée avant l'envoi du fichier : pas encore d'URL, invisible sur le site
+    public void preparerTeleversement() {
+        initialiserCreation();
+        this.url = null;
+        this.cloudinaryPublicId = null;
+        this.statut = StatutImage.EN_ATTENTE;
+    }
+
+    // Même métadonnées, pour chaque photo d'un envoi groupé
+    public GalleryImage copie() {
+        return GalleryImage.builder()
+                .titre(titre)
+                .description(description)
+                .categorie(categorie)
+                .isPublic(isPublic)
+                .formationId(formationId)
+                .build();
+    }
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package cm.beautysempire.institut.domain.gallery;
 
+import cm.beautysempire.institut.domain.shared.Curseur;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GalleryImageRepositoryPort {
@@ -10,5 +15,13 @@ public interface GalleryImageRepositoryPort {
     Optional<GalleryImage> findById(Long id);
     void deleteById(Long id);
     Page<GalleryImage> findAllPublic(Pageable pageable);
+    // Images publiques (plus récentes d'abord) situées après le curseur ; apres == null pour la première page
+    Slice<GalleryImage> findPublicApres(Curseur apres, int taille);
     Page<GalleryImage> findAll(Pageable pageable); // Pour l'admin
+    List<GalleryImage> findAllById(Collection<Long> ids);
+    // Fin d'envoi : false si l'image a été supprimée entre-temps
+    boolean marquerDisponible(Long id, String url, String publicId);
+    void marquerEchec(Long id);
+    // Envois restés EN_ATTENTE depuis avant cette date (redémarrage en plein envoi) : passés en ECHEC
+    int marquerEchecEnAttenteAvant(LocalDateTime date);
 }
\ No newline at end of file
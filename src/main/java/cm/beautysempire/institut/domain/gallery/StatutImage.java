@@ -0,0 +1,17 @@
+package cm.beautysempire.institut.domain.gallery;
+
+import lombok.Getter;
+
+@Getter
+public enum StatutImage {
+
+    EN_ATTENTE("Envoi vers le stockage en cours"),
+    DISPONIBLE("Image en ligne"),
+    ECHEC("Échec de l'envoi");
+
+    private final String libelle;
+
+    StatutImage(String libelle) {
+        this.libelle = libelle;
+    }
+}
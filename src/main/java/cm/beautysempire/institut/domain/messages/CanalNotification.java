@@ -0,0 +1,7 @@
+package cm.beautysempire.institut.domain.messages;
+
+// Notifications déclenchées par la réception d'un message, envoyées en différé (boîte d'envoi)
+public enum CanalNotification {
+    WHATSAPP_ADMIN,
+    EMAIL_CONFIRMATION
+}
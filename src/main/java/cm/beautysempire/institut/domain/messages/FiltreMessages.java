@@ -0,0 +1,28 @@
+package cm.beautysempire.institut.domain.messages;
+
+import java.time.LocalDateTime;
+
+// Critères de la boîte de réception admin ; null = critère ignoré.
+// Période : depuis (inclus) -> avant (exclu). Texte : contenu dans le nom ou le téléphone.
+public record FiltreMessages(StatutMessage statut,
+                             TypeMessage type,
+                             Long formationId,
+                             LocalDateTime depuis,
+                             LocalDateTime avant,
+                             String texte) {
+
+    public static final FiltreMessages AUCUN = new FiltreMessages(null, null, null, null, null, null);
+
+    public FiltreMessages {
+        if (depuis != null && avant != null && !depuis.isBefore(avant)) {
+            throw new IllegalArgumentException("Période invalide : la date de début doit précéder la date de fin");
+        }
+        texte = texte == null || texte.isBlank() ? null : texte.trim();
+    }
+
+    // Sans période explicite (ni début ni fin), on ne remonte pas avant "borne" ; une période saisie prime
+    public FiltreMessages bornerSansPeriode(LocalDateTime borne) {
+        if (depuis != null || avant != null) return this;
+        return new FiltreMessages(statut, type, formationId, borne, null, texte);
+    }
+}
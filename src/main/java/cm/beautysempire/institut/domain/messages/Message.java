@@ -4,6 +4,7 @@ package cm.beautysempire.institut.domain.messages;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Getter
 @Setter
@@ -14,6 +15,8 @@ public class Message {
 
     //Base
     private Long id;
+    // Identifiant attribué dès la réception, avant l'écriture en base (l'id n'existe qu'après)
+    private String reference;
     private TypeMessage type;
 
     @Builder.Default
@@ -62,6 +65,9 @@ public class Message {
     }
 
     public void initialiserCreation() {
+        if (this.reference == null) {
+            this.reference = UUID.randomUUID().toString();
+        }
         this.dateCreation = LocalDateTime.now();
         this.statut = StatutMessage.NON_LU;
         this.emailConfirmationEnvoye = false;
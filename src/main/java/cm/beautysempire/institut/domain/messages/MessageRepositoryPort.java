@@ -3,9 +3,13 @@ package cm.beautysempire.institut.domain.messages;
 
 
 
+import cm.beautysempire.institut.domain.shared.Curseur;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +17,10 @@ public interface MessageRepositoryPort {
 
     Message save(Message message);
 
-    Page<Message> findAll(Pageable pageable);
+    Page<Message> findAll(FiltreMessages filtre, Pageable pageable);
+
+    // Messages filtrés (plus récents d'abord) situés après le curseur ; apres == null pour la première page
+    Slice<Message> findApres(FiltreMessages filtre, Curseur apres, int taille);
 
     Optional <Message> findById(Long id);
 
@@ -21,4 +28,9 @@ public interface MessageRepositoryPort {
 
     long countByStatut(StatutMessage statut);
 
+    // Transition appliquée en base aux seuls messages dont le statut le permet (StatutMessage.statutsPrecedents) ;
+    // un résultat par message existant, les ids inconnus sont absents de la liste
+    List<ResultatChangementStatut> changerStatutEnLot(Collection<Long> ids, StatutMessage nouveauStatut,
+                                                      String admin, LocalDateTime maintenant);
+
 }
@@ -0,0 +1,16 @@
+package cm.beautysempire.institut.domain.messages;
+
+// Issue d'un changement de statut en lot, pour un message.
+// statutPrecedent : statut lu au moment de la mise à jour (null si le message n'existe pas)
+public record ResultatChangementStatut(Long messageId, Issue issue, StatutMessage statutPrecedent) {
+
+    public enum Issue {
+        MODIFIE,
+        TRANSITION_REFUSEE,
+        INTROUVABLE
+    }
+
+    public static ResultatChangementStatut introuvable(Long messageId) {
+        return new ResultatChangementStatut(messageId, Issue.INTROUVABLE, null);
+    }
+}
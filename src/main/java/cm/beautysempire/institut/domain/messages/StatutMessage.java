@@ -3,6 +3,9 @@ package cm.beautysempire.institut.domain.messages;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Getter
 public enum StatutMessage {
 
@@ -32,4 +35,12 @@ public enum StatutMessage {
         };
     }
 
+    // Statuts depuis lesquels on peut passer à celui-ci : la même règle que peutEvoluerVers,
+    // sous une forme utilisable par un UPDATE ensembliste (WHERE statut IN (...))
+    public List<StatutMessage> statutsPrecedents() {
+        return Arrays.stream(values())
+                .filter(statut -> statut.peutEvoluerVers(this))
+                .toList();
+    }
+
 }
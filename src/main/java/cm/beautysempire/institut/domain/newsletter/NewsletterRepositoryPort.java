@@ -1,14 +1,19 @@
 package cm.beautysempire.institut.domain.newsletter;
 
+import cm.beautysempire.institut.domain.shared.Curseur;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Optional;
 
 public interface NewsletterRepositoryPort {
     NewsletterSubscription save(NewsletterSubscription subscription);
     Page<NewsletterSubscription> findAll(Pageable pageable);
+    // Abonnés (plus récents d'abord) situés après le curseur ; apres == null pour la première page
+    Slice<NewsletterSubscription> findApres(Curseur apres, int taille);
     Optional<NewsletterSubscription> findById(Long id);
-    boolean existsByTelephone(String telephone);
+    // Insertion sauf si le numéro est déjà inscrit (index unique, Flyway V18) : vide dans ce cas
+    Optional<NewsletterSubscription> inscrireSiNouveau(NewsletterSubscription subscription);
     long count();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package cm.beautysempire.institut.domain.newsletter;
 
+import cm.beautysempire.institut.domain.shared.TelephoneE164;
 import lombok.*;
 import java.time.LocalDateTime;
 
@@ -15,7 +16,9 @@ public class NewsletterSubscription {
     private LocalDateTime dateInscription;
     private Boolean contacte;
 
+    // Le numéro est stocké en E.164 : "699000001" et "+237 699 000 001" sont le même abonné
     public void initialiser() {
+        this.telephone = TelephoneE164.normaliser(this.telephone);
         this.dateInscription = LocalDateTime.now();
         this.contacte = false;
     }
@@ -0,0 +1,14 @@
+package cm.beautysempire.institut.domain.shared;
+
+import java.time.LocalDateTime;
+
+// Position dans une liste triée par (date DESC, id DESC) : la page suivante commence
+// juste après cette ligne. L'id départage les lignes créées à la même date.
+public record Curseur(LocalDateTime date, Long id) {
+
+    public Curseur {
+        if (date == null || id == null) {
+            throw new IllegalArgumentException("Curseur incomplet");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package cm.beautysempire.institut.domain.shared;
+
+// Numéros de téléphone au format E.164 : un numéro national camerounais (9 chiffres, sans "+" ni "00")
+// reçoit l'indicatif 237, un numéro international explicite est gardé tel quel.
+// Même règle que Flyway V18, qui a normalisé les abonnés déjà inscrits : les deux doivent rester alignés.
+public final class TelephoneE164 {
+
+    private static final String INDICATIF_CAMEROUN = "237";
+    private static final int LONGUEUR_NATIONALE = 9;
+
+    private TelephoneE164() {
+    }
+
+    // "6 99 00 00 01", "00237699000001" et "+237 699-000-001" donnent tous "+237699000001",
+    // "+33 6 12 34 56 78" donne "+33612345678"
+    public static String normaliser(String numero) {
+        String chiffres = chiffresInternationaux(numero);
+        return chiffres == null ? null : "+" + chiffres;
+    }
+
+    // Sans le "+" (format attendu par les liens wa.me)
+    public static String chiffresInternationaux(String numero) {
+        if (numero == null) return null;
+        String chiffres = numero.replaceAll("[^0-9]", "");
+        // Avec "+" en tête, l'indicatif est déjà là
+        if (!numero.strip().startsWith("+")) {
+            if (chiffres.startsWith("00")) {
+                chiffres = chiffres.substring(2);
+            } else if (chiffres.length() == LONGUEUR_NATIONALE) {
+                chiffres = INDICATIF_CAMEROUN + chiffres;
+            }
+        }
+        return chiffres.isEmpty() ? null : chiffres;
+    }
+}
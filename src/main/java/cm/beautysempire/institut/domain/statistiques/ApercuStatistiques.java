@@ -0,0 +1,24 @@
+package cm.beautysempire.institut.domain.statistiques;
+
+// Chiffres clés du tableau de bord admin (immuable : chaque variation produit un nouvel aperçu)
+public record ApercuStatistiques(long messagesNonLus,
+                                 long formationsActives,
+                                 long abonnesNewsletter,
+                                 long totalTemoignages) {
+
+    public ApercuStatistiques avecMessagesNonLus(long delta) {
+        return new ApercuStatistiques(messagesNonLus + delta, formationsActives, abonnesNewsletter, totalTemoignages);
+    }
+
+    public ApercuStatistiques avecFormationsActives(long delta) {
+        return new ApercuStatistiques(messagesNonLus, formationsActives + delta, abonnesNewsletter, totalTemoignages);
+    }
+
+    public ApercuStatistiques avecAbonnesNewsletter(long delta) {
+        return new ApercuStatistiques(messagesNonLus, formationsActives, abonnesNewsletter + delta, totalTemoignages);
+    }
+
+    public ApercuStatistiques avecTemoignages(long delta) {
+        return new ApercuStatistiques(messagesNonLus, formationsActives, abonnesNewsletter, totalTemoignages + delta);
+    }
+}
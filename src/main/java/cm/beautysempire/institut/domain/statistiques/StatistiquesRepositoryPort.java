@@ -0,0 +1,13 @@
+package cm.beautysempire.institut.domain.statistiques;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StatistiquesRepositoryPort {
+
+    // Tous les compteurs du tableau de bord en un seul aller-retour
+    ApercuStatistiques calculerApercu();
+
+    // Une ligne par jour entre debut et fin inclus, y compris les jours sans activité
+    List<TendanceJour> calculerTendances(LocalDate debut, LocalDate fin);
+}
@@ -0,0 +1,7 @@
+package cm.beautysempire.institut.domain.statistiques;
+
+import java.time.LocalDate;
+
+// Activité d'une journée : messages reçus (dont pré-inscriptions) et vues des fiches formation
+public record TendanceJour(LocalDate jour, long messages, long preInscriptions, long vues) {
+}
@@ -1,7 +1,9 @@
 package cm.beautysempire.institut.domain.testimonial;
 
+import cm.beautysempire.institut.domain.shared.Curseur;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import java.util.Optional;
 
 public interface TestimonialRepositoryPort {
@@ -10,5 +12,8 @@ public interface TestimonialRepositoryPort {
     void deleteById(Long id);
     Page<Testimonial> findAll(Pageable pageable);
     Page<Testimonial> findByPublieTrue(Pageable pageable);
+    // Curseurs (plus récents d'abord) ; apres == null pour la première page
+    Slice<Testimonial> findApres(Curseur apres, int taille);
+    Slice<Testimonial> findPubliesApres(Curseur apres, int taille);
     long count();
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package cm.beautysempire.institut.infrastructure.archivage;
+
+import cm.beautysempire.institut.infrastructure.persistence.message.CycleVieMessages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+// Entretien quotidien de la table messages (partitionnée par mois, Flyway V17) :
+// partitions des mois à venir créées d'avance, messages ARCHIVE anciens déplacés par lots vers
+// messages_archives, puis partitions vidées supprimées. La table chaude ne garde que ce que l'admin consulte.
+@Component
+@ConditionalOnProperty(name = "app.messages.archivage.actif", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ArchivageMessages {
+
+    private final CycleVieMessages cycleVie;
+    private final int apresMois;
+    private final int tailleLot;
+    private final int moisAvance;
+
+    private final Counter archives;
+
+    public ArchivageMessages(CycleVieMessages cycleVie,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.messages.archivage.apres-mois:6}") int apresMois,
+                             @Value("${app.messages.archivage.taille-lot:1000}") int tailleLot,
+                             @Value("${app.messages.partitions.mois-avance:3}") int moisAvance) {
+        this.cycleVie = cycleVie;
+        this.apresMois = apresMois;
+        this.tailleLot = tailleLot;
+        this.moisAvance = moisAvance;
+
+        this.archives = Counter.builder("institut.messages.archives")
+                .description("Messages déplacés vers la table d'archives")
+                .register(meterRegistry);
+    }
+
+    // Au démarrage aussi : après un long arrêt, les messages du mois doivent trouver leur partition
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparerPartitions() {
+        try {
+            int creees = cycleVie.creerPartitionsAVenir(moisAvance);
+            if (creees > 0) {
+                log.info("{} partition(s) de messages créée(s)", creees);
+            }
+            long horsPartitions = cycleVie.compterHorsPartitions();
+            if (horsPartitions > 0) {
+                log.warn("{} message(s) dans la partition par défaut : la partition de leur mois est à créer à la main",
+                        horsPartitions);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Création des partitions de messages impossible : {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.messages.archivage.cron:0 30 3 * * *}")
+    public void entretenir() {
+        preparerPartitions();
+        try {
+            LocalDateTime limite = LocalDateTime.now().minusMonths(apresMois);
+            long total = 0;
+            int lot;
+            do {
+                lot = cycleVie.archiverLot(limite, tailleLot);
+                total += lot;
+                archives.increment(lot);
+            } while (lot == tailleLot);
+            if (total > 0) {
+                log.info("{} message(s) archivé(s) antérieur(s) au {}", total, limite.toLocalDate());
+            }
+
+            for (String partition : cycleVie.partitionsAnterieuresA(YearMonth.from(limite))) {
+                if (cycleVie.supprimerPartitionSiVide(partition)) {
+                    log.info("Partition {} vide, supprimée", partition);
+                }
+            }
+        } catch (DataAccessException e) {
+            // Base indisponible ou verrou non obtenu : le travail reprend au prochain passage
+            log.warn("Archivage des messages interrompu : {}", e.getMessage());
+        }
+    }
+}
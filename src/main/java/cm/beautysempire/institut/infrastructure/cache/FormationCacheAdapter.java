@@ -0,0 +1,218 @@
+package cm.beautysempire.institut.infrastructure.cache;
+
+import cm.beautysempire.institut.domain.formation.CarteFormation;
+import cm.beautysempire.institut.domain.formation.Formation;
+import cm.beautysempire.institut.domain.formation.FormationRepositoryPort;
+import cm.beautysempire.institut.domain.formation.ResultatRechercheFormation;
+import cm.beautysempire.institut.domain.shared.Curseur;
+import cm.beautysempire.institut.infrastructure.persistence.formation.FormationRepositoryAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Cache "read-through" du catalogue, placé devant l'adapter JPA.
+// Les écritures (save, reserverPlace, insererEnLot) invalident uniquement ce qu'elles ont changé.
+@Component
+@Primary
+@Slf4j
+public class FormationCacheAdapter implements FormationRepositoryPort {
+
+    private final FormationRepositoryPort delegate;
+
+    private final Cache<Long, Formation> parId;
+    private final Cache<String, Long> idParSlug;
+    private final Cache<Pageable, Page<Formation>> pagesActives;
+    // Cartes immuables (record) : rendues telles quelles, sans copie
+    private final Cache<Pageable, Page<CarteFormation>> pagesCartes;
+
+    // Incrémenté à chaque invalidation : une lecture lancée avant une écriture ne doit pas remettre
+    // en cache une donnée déjà périmée
+    private final AtomicLong generation = new AtomicLong();
+
+    public FormationCacheAdapter(FormationRepositoryAdapter delegate,
+                                 @Value("${app.cache.formations.ttl:10m}") Duration ttl,
+                                 @Value("${app.cache.formations.max-size:1000}") long tailleMax) {
+        this.delegate = delegate;
+        this.parId = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(tailleMax).build();
+        this.idParSlug = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(tailleMax).build();
+        this.pagesActives = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(200).build();
+        this.pagesCartes = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(200).build();
+    }
+
+    @Override
+    public Formation save(Formation formation) {
+        Formation saved = delegate.save(formation);
+        invalider(saved.getId());
+        return copie(saved);
+    }
+
+    @Override
+    public Optional<Formation> findById(Long id) {
+        Formation enCache = parId.getIfPresent(id);
+        if (enCache != null) return Optional.of(copie(enCache));
+
+        long generationLecture = generation.get();
+        Optional<Formation> formation = delegate.findById(id);
+        formation.ifPresent(f -> mettreEnCache(f, generationLecture));
+        return formation.map(this::copie);
+    }
+
+    @Override
+    public Optional<Formation> findBySlug(String slug) {
+        Long id = idParSlug.getIfPresent(slug);
+        if (id != null) {
+            Formation enCache = parId.getIfPresent(id);
+            if (enCache != null) return Optional.of(copie(enCache));
+        }
+
+        long generationLecture = generation.get();
+        Optional<Formation> formation = delegate.findBySlug(slug);
+        formation.ifPresent(f -> mettreEnCache(f, generationLecture));
+        return formation.map(this::copie);
+    }
+
+    @Override
+    public boolean reserverPlace(Long formationId) {
+        boolean reservee = delegate.reserverPlace(formationId);
+        if (reservee) {
+            // Les places restantes affichées ont changé
+            invalider(formationId);
+        }
+        return reservee;
+    }
+
+    @Override
+    public List<Formation> insererEnLot(List<Formation> formations) {
+        List<Formation> inserees = delegate.insererEnLot(formations);
+        // Nouvelles formations : rien à retirer par id, mais les pages actives ont changé
+        generation.incrementAndGet();
+        pagesActives.invalidateAll();
+        pagesCartes.invalidateAll();
+        return inserees;
+    }
+
+    @Override
+    public Page<Formation> findAllActivePaginated(Pageable pageable) {
+        Page<Formation> enCache = pagesActives.getIfPresent(pageable);
+        if (enCache == null) {
+            long generationLecture = generation.get();
+            enCache = delegate.findAllActivePaginated(pageable);
+            mettreEnCache(pagesActives, pageable, enCache, generationLecture);
+        }
+        return enCache.map(this::copie);
+    }
+
+    @Override
+    public Page<CarteFormation> findCartesActives(Pageable pageable) {
+        Page<CarteFormation> enCache = pagesCartes.getIfPresent(pageable);
+        if (enCache == null) {
+            long generationLecture = generation.get();
+            enCache = delegate.findCartesActives(pageable);
+            mettreEnCache(pagesCartes, pageable, enCache, generationLecture);
+        }
+        return enCache;
+    }
+
+    // --- Lectures non mises en cache (admin, recherche, compteurs, curseurs, import / export) ---
+
+    @Override
+    public Set<String> findNomsExistants(Collection<String> nomsMinuscules) {
+        return delegate.findNomsExistants(nomsMinuscules);
+    }
+
+    @Override
+    public void parcourirTout(Consumer<Formation> consommateur) {
+        delegate.parcourirTout(consommateur);
+    }
+
+    @Override
+    public Slice<Formation> findActivesApres(Curseur apres, int taille) {
+        return delegate.findActivesApres(apres, taille);
+    }
+
+    @Override
+    public boolean existsByNom(String nom) {
+        return delegate.existsByNom(nom);
+    }
+
+    @Override
+    public Page<ResultatRechercheFormation> searchActiveFormations(String motCle, Pageable pageable) {
+        return delegate.searchActiveFormations(motCle, pageable);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long countByActiveTrue() {
+        return delegate.countByActiveTrue();
+    }
+
+    @Override
+    public Page<Formation> findAllPaginated(Pageable pageable) {
+        return delegate.findAllPaginated(pageable);
+    }
+
+    @Override
+    public Page<Formation> searchAdminFormations(String motCle, String status, Pageable pageable) {
+        return delegate.searchAdminFormations(motCle, status, pageable);
+    }
+
+    // ==========================================
+    // GESTION DU CACHE
+    // ==========================================
+
+    private void mettreEnCache(Formation formation, long generationLecture) {
+        mettreEnCache(parId, formation.getId(), formation, generationLecture);
+        if (formation.getSlug() != null) {
+            mettreEnCache(idParSlug, formation.getSlug(), formation.getId(), generationLecture);
+        }
+    }
+
+    // Vérifier la génération puis put() n'est pas atomique : une invalidation peut passer entre les deux
+    // et la valeur lue avant l'écriture resterait jusqu'au TTL. invalider() change la génération avant de
+    // vider le cache, donc une valeur posée après ce vidage voit forcément la nouvelle génération au second test.
+    private <K, V> void mettreEnCache(Cache<K, V> cache, K cle, V valeur, long generationLecture) {
+        if (generation.get() != generationLecture) return;
+        cache.put(cle, valeur);
+        if (generation.get() != generationLecture) {
+            cache.invalidate(cle);
+        }
+    }
+
+    private void invalider(Long formationId) {
+        generation.incrementAndGet();
+        parId.invalidate(formationId);
+        // Le slug a pu changer : on retire toutes les entrées qui pointent vers cette formation
+        idParSlug.asMap().values().removeIf(formationId::equals);
+        // Une modification peut faire entrer/sortir la formation de n'importe quelle page
+        pagesActives.invalidateAll();
+        pagesCartes.invalidateAll();
+        log.debug("Cache catalogue invalidé pour la formation {}", formationId);
+    }
+
+    // Le domaine est mutable : on ne rend jamais l'instance stockée, sinon un appelant
+    // qui la modifie avant save() corromprait le cache
+    private Formation copie(Formation formation) {
+        return formation.toBuilder()
+                .photosGalerie(formation.getPhotosGalerie() == null ? null : new ArrayList<>(formation.getPhotosGalerie()))
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package cm.beautysempire.institut.infrastructure.config;
+
+import cm.beautysempire.institut.application.port.JetonAdminPort;
+import cm.beautysempire.institut.application.service.AuthUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.time.Duration;
+
+@Configuration
+public class AuthConfig {
+
+    // Utilisé seulement par AuthController, lui-même paresseux
+    @Bean
+    @Lazy
+    public AuthUseCase authUseCase(JetonAdminPort jetonAdminPort,
+                                   @Value("${app.admin.token.validite:15m}") Duration validite,
+                                   @Value("${app.admin.token.session-max:12h}") Duration sessionMax) {
+        return new AuthUseCase(jetonAdminPort, validite, sessionMax);
+    }
+}
@@ -1,20 +1,89 @@
 package cm.beautysempire.institut.infrastructure.config;
 
+import cm.beautysempire.institut.application.port.CompteurVuesPort;
+import cm.beautysempire.institut.infrastructure.persistence.shared.EmpreintesContenu;
+import cm.beautysempire.institut.infrastructure.ratelimit.RateLimitFilter;
+import cm.beautysempire.institut.infrastructure.ratelimit.ResolveurAdresseClient;
+import cm.beautysempire.institut.infrastructure.ratelimit.StockageSeaux;
+import cm.beautysempire.institut.infrastructure.ratelimit.StockageSeauxMemoire;
+import cm.beautysempire.institut.infrastructure.ratelimit.StockageSeauxPostgres;
+import cm.beautysempire.institut.infrastructure.web.CacheReponsesSerialisees;
+import cm.beautysempire.institut.infrastructure.web.RequetesConditionnellesFilter;
+import io.github.bucket4j.Bandwidth;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 public class FilterConfig {
 
     @Bean
-    public FilterRegistrationBean<RateLimitFilter> rateLimitRegistration(RateLimitFilter filter) {
-        FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>(filter);
-        registrationBean.setFilter(filter);
-        registrationBean.addUrlPatterns("/api/*");
+    public StockageSeaux stockageSeaux(DataSource dataSource,
+                                       @Value("${app.rate-limit.backend:memoire}") String backend,
+                                       @Value("${app.rate-limit.capacite:5}") long capacite,
+                                       @Value("${app.rate-limit.periode:10m}") Duration periode,
+                                       @Value("${app.rate-limit.max-cles:100000}") long maxCles) {
+        // Par défaut : 5 requêtes toutes les 10 minutes par client
+        Bandwidth limite = Bandwidth.builder()
+                .capacity(capacite)
+                .refillIntervally(capacite, periode)
+                .build();
+        return switch (backend) {
+            case "memoire" -> new StockageSeauxMemoire(limite, periode, maxCles);
+            case "postgres" -> new StockageSeauxPostgres(dataSource, limite, periode, maxCles);
+            default -> throw new IllegalStateException("app.rate-limit.backend inconnu : " + backend);
+        };
+    }
+
+    @Bean
+    public ResolveurAdresseClient resolveurAdresseClient(
+            @Value("${app.rate-limit.proxies-de-confiance:}") List<String> proxiesDeConfiance) {
+        return new ResolveurAdresseClient(proxiesDeConfiance);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitRegistration(StockageSeaux stockageSeaux,
+                                                                         ResolveurAdresseClient resolveur) {
+        FilterRegistrationBean<RateLimitFilter> registrationBean =
+                new FilterRegistrationBean<>(new RateLimitFilter(stockageSeaux, resolveur));
+        // Le conteneur ne déclenche le filtre que sur ces chemins exacts
+        registrationBean.addUrlPatterns(RateLimitFilter.ROUTES_PROTEGEES.toArray(String[]::new));
         // S'exécute en tout premier (avant Spring Security)
         registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
         return registrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean<RequetesConditionnellesFilter> requetesConditionnellesRegistration(
+            EmpreintesContenu empreintes,
+            CompteurVuesPort compteurVuesPort,
+            @Value("${app.http.cache-control.catalogue:public, max-age=60}") String catalogue,
+            @Value("${app.http.cache-control.formation:public, max-age=60}") String formation,
+            @Value("${app.http.cache-control.galerie:public, max-age=300}") String galerie,
+            @Value("${app.http.cache-control.temoignages:public, max-age=300}") String temoignages,
+            @Value("${app.http.reponses.poids-max:32MB}") DataSize poidsMax,
+            @Value("${app.http.reponses.ttl:10m}") Duration ttl,
+            @Value("${server.compression.min-response-size:2KB}") DataSize seuilCompression) {
+        Map<String, String> politiques = Map.of(
+                RequetesConditionnellesFilter.CATALOGUE, catalogue,
+                RequetesConditionnellesFilter.FORMATION, formation,
+                RequetesConditionnellesFilter.GALERIE, galerie,
+                RequetesConditionnellesFilter.TEMOIGNAGES, temoignages);
+        FilterRegistrationBean<RequetesConditionnellesFilter> registrationBean = new FilterRegistrationBean<>(
+                new RequetesConditionnellesFilter(empreintes, compteurVuesPort, politiques,
+                        new CacheReponsesSerialisees(poidsMax.toBytes(), ttl, (int) seuilCompression.toBytes())));
+        registrationBean.addUrlPatterns(RequetesConditionnellesFilter.ROUTES.toArray(String[]::new));
+        // Juste après Spring Security : un 304 porte déjà les en-têtes CORS
+        registrationBean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registrationBean;
+    }
 }
\ No newline at end of file
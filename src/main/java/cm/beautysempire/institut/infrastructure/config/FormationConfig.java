@@ -1,6 +1,9 @@
 package cm.beautysempire.institut.infrastructure.config;
 
+import cm.beautysempire.institut.application.port.CompteurVuesPort;
+import cm.beautysempire.institut.application.port.IndexSlugsPort;
 import cm.beautysempire.institut.application.service.FormationUseCase;
+import cm.beautysempire.institut.application.service.StatistiquesUseCase;
 import cm.beautysempire.institut.domain.formation.FormationRepositoryPort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,7 +12,10 @@ import org.springframework.context.annotation.Configuration;
 public class FormationConfig {
 
     @Bean
-    public FormationUseCase formationUseCase(FormationRepositoryPort formationRepositoryPort) {
-        return new FormationUseCase(formationRepositoryPort);
+    public FormationUseCase formationUseCase(FormationRepositoryPort formationRepositoryPort,
+                                             CompteurVuesPort compteurVuesPort,
+                                             StatistiquesUseCase statistiquesUseCase,
+                                             IndexSlugsPort indexSlugsPort) {
+        return new FormationUseCase(formationRepositoryPort, compteurVuesPort, statistiquesUseCase, indexSlugsPort);
     }
 }
@@ -5,11 +5,13 @@ import cm.beautysempire.institut.domain.formation.Formation;
 import cm.beautysempire.institut.domain.formation.FormationRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -21,8 +23,17 @@ public class FormationSeeder implements CommandLineRunner {
     private final FormationRepositoryPort formationRepositoryPort;
     private final FormationUseCase formationUseCase;
 
+    // Une fois la base initialisée, le seed peut être coupé (SEED_FORMATIONS=false) : plus de count() à chaque démarrage.
+    // Lu à l'exécution et non via une condition sur le bean, pour rester valable avec un build AOT
+    @Value("${app.seed.formations.actif:true}")
+    private boolean actif;
+
     @Override
     public void run(String... args) {
+        if (!actif) {
+            log.info("Seed des formations désactivé.");
+            return;
+        }
         if (formationRepositoryPort.count() == 0) {
             log.info("Base de données vide : Initialisation des 23 formations et packs...");
             createFormations();
@@ -33,11 +44,13 @@ public class FormationSeeder implements CommandLineRunner {
     }
 
     private void createFormations() {
+        List<Formation> formations = new ArrayList<>();
+
         // ==========================================
         // 1. LES PACKS BEAUTÉ
         // ==========================================
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK 1 : Onglerie + Make-up")
                 .description("Pack combiné : prothésie ongulaire + maquillage professionnel. 2 mois + stage, kit complet, pratique intensive. Idéal pour démarrer une activité polyvalente et répondre à la demande du marché camerounais.")
                 .duree("2 mois")
@@ -59,9 +72,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack Onglerie Make-up")
                 .metaDescription("Pack complet Onglerie + Make-up, pratique, kit et stage inclus.")
                 .slug("pack1-onglerie-makeup")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK 2 : Esthétique Professionnelle + Onglerie + Make-up")
                 .description("Pack complet 6 mois : esthétique, onglerie, make-up, stage inclus. Idéal pour devenir polyvalent(e) et accompagner une clientèle diverse.")
                 .duree("6 mois")
@@ -83,9 +96,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack Beauté Complet")
                 .metaDescription("Pack complet esthétique, onglerie, make-up avec stage inclus.")
                 .slug("pack2-esthetique-onglerie-makeup")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK 3 : Esthétique Pro + Coiffure Pro + Onglerie + Make-up")
                 .description("Pack 12 mois : tout métier de la beauté : esthétique, coiffure pro, onglerie, make-up, stage inclus. Formation complète, pratique, kit fourni.")
                 .duree("12 mois")
@@ -107,9 +120,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack Beauté Excellence")
                 .metaDescription("Pack complet, tous métiers beauté, pratique et stage inclus.")
                 .slug("pack3-beaute-excellence")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK 4 : Coiffure Pro Femme + Onglerie + Make-up")
                 .description("Pack 6 mois : coiffure pro femme, onglerie, make-up, stage inclus. Pratique intensive, kit fourni, accompagnement pro.")
                 .duree("6 mois")
@@ -131,9 +144,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack Coiffure Onglerie Make-up")
                 .metaDescription("Pack complet, coiffure femme, onglerie, make-up, pratique et stage inclus.")
                 .slug("pack4-coiffure-onglerie-makeup")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK 5 DQP : Esthétique Professionnelle + Cosmétique")
                 .description("Pack DQP : esthétique professionnelle et cosmétique, 12 mois, 2 mois de stage, kit inclus. Formation certifiante, pratique, suivi professionnel.")
                 .duree("12 mois")
@@ -155,9 +168,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack DQP Beauté Cosmétique")
                 .metaDescription("Pack DQP complet : esthétique, cosmétique, stage inclus.")
                 .slug("pack5-dqp-beaute-cosmetique")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK 6 DQP : Coiffure Pro Femme + Coiffure Homme + Perruques + Customisation")
                 .description("Pack DQP 12 mois : coiffure pro femme, coiffure homme, confection perruques, customisation, stage inclus. Formation certifiante, pratique intensive, kit fourni.")
                 .duree("12 mois")
@@ -179,9 +192,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack DQP Coiffure complète")
                 .metaDescription("Pack DQP, coiffure femme/homme, perruques, customisation, stage inclus.")
                 .slug("pack6-dqp-coiffure-complete")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK 7 : Onglerie + Make-up + Pose lace Frontale")
                 .description("Pack 3 mois : ongles, make-up, pose lace frontale, stage inclus. Formation pratique, kit complet, encadrement pro.")
                 .duree("3 mois")
@@ -203,9 +216,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack Onglerie Make-up Lace")
                 .metaDescription("Pack complet ongles, make-up, lace frontale, stage inclus.")
                 .slug("pack7-onglerie-makeup-lace")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK 8 : Onglerie + Make-up + Extensions Cils + Microblading + Microshading")
                 .description("Pack 3 mois : ongles, make-up, extensions cils, microblading, microshading, stage inclus. Formation ultra-complète, kit fourni, encadrement professionnel.")
                 .duree("3 mois")
@@ -227,13 +240,13 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack Beauté Expert")
                 .metaDescription("Pack complet ongles, make-up, extensions cils, microblading, microshading, stage inclus.")
                 .slug("pack8-beaute-expert")
-                .build(), "system");
+                .build());
 
         // ==========================================
         // 2. DQP, CQP, AQP
         // ==========================================
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("DQP Coiffure Professionnelle")
                 .description("DQP Coiffure Pro : 12 mois, pratique, gestion salon, techniques avancées, stage, kit fourni. Formation certifiante, reconnue nationalement.")
                 .duree("12 mois")
@@ -255,9 +268,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("DQP Coiffure Pro")
                 .metaDescription("Diplôme DQP coiffure pro, pratique, gestion salon, stage inclus.")
                 .slug("dqp-coiffure-pro")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("DQP Esthétique Cosmétique")
                 .description("DQP Esthétique Cosmétique : 12 mois, fabrication produits, soins, gestion clientèle, pratique, stage, kit inclus. Formation certifiante, reconnue nationalement.")
                 .duree("12 mois")
@@ -279,9 +292,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("DQP Esthétique Cosmétique")
                 .metaDescription("Diplôme DQP esthétique cosmétique, fabrication produits, stage inclus.")
                 .slug("dqp-esthetique-cosmetique")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("PACK DQP/AQP/CQP Complet")
                 .description("Le pack ultime : Onglerie, Make-up, Coiffure Pro Femme, Esthétique Pro, Cosmétique, Extensions Cils, Microblading, Microshading, 14 mois + 2 mois suivi. Formation certifiante, kit ultra-complet, pratique, stage, accompagnement pro.")
                 .duree("14 mois")
@@ -303,13 +316,13 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack DQP/AQP/CQP Complet")
                 .metaDescription("Pack complet, tous les diplômes beauté, pratique et stage inclus, suivi pro.")
                 .slug("pack-dqp-aqp-cqp-complet")
-                .build(), "system");
+                .build());
 
         // ==========================================
         // 3. FORMATIONS INDIVIDUELLES
         // ==========================================
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Onglerie")
                 .description("Maîtrisez la prothésie ongulaire : capsules, gel, polygel, résine, vernis, nail art et hygiène professionnelle. Formation pratique et théorique sur 2 mois, accompagnée de matériel professionnel et d'un suivi individualisé.")
                 .duree("2 mois")
@@ -331,9 +344,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Onglerie Professionnelle")
                 .metaDescription("Devenez prothésiste ongulaire avec notre formation complète et certifiée.")
                 .slug("onglerie")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Make-up Professionnel")
                 .description("Développez votre expertise en maquillage professionnel : bases, techniques avancées, maquillage de jour, soirée, mariage, artistique. Formation de 2 mois, encadrée par des maquilleuses expérimentées, pratique sur modèles, kit inclus.")
                 .duree("2 mois")
@@ -355,9 +368,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Make-up Professionnel")
                 .metaDescription("Maîtrisez les techniques de maquillage professionnel, artistique et événementiel.")
                 .slug("make-up-professionnel")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Extension des cils")
                 .description("Maîtrisez la pose d’extensions de cils et le regard parfait. Formation de 2 mois + stage, pratique sur modèles, hygiène, conseils client, kit complet fourni.")
                 .duree("2 mois")
@@ -379,9 +392,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Extension des cils")
                 .metaDescription("Formation complète à l’extension des cils avec stage et kit inclus.")
                 .slug("extension-des-cils")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Extension des cils + Microblading + Microshading")
                 .description("Pack expert du regard : extension de cils, microblading, microshading. 3 mois de formation + stage, pratique intensive, matériel professionnel, accompagnement individuel.")
                 .duree("3 mois")
@@ -403,9 +416,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Pack Extension cils Microblading Microshading")
                 .metaDescription("Pack expert du regard, formations extension de cils, microblading et microshading.")
                 .slug("pack-extension-cils-microblading-microshading")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Coiffure Homme")
                 .description("Formation Coiffure Homme : toutes les techniques de coupe, coiffure moderne et classique, hygiène, gestion clientèle. 3 mois + stage, pratique en salon, matériel fourni.")
                 .duree("3 mois")
@@ -427,9 +440,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Coiffure Homme")
                 .metaDescription("Techniques et tendances de coiffure masculine, avec stage en salon.")
                 .slug("coiffure-homme")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Massage")
                 .description("Formation Massage : techniques de relaxation, huiles, hygiène, pratique sur modèles, conseils bien-être. 2 mois + stage, matériel fourni, encadrement professionnel.")
                 .duree("2 mois")
@@ -451,9 +464,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Massage")
                 .metaDescription("Techniques de massage et relaxation, formation pratique avec kit inclus.")
                 .slug("massage")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Pose lace Frontale")
                 .description("Apprenez la pose et la customisation de lace frontale, coloration, entretien, gestion des coiffures tendances. 2 mois (1 mois cours + 1 mois stage), matériel fourni, encadrement professionnel.")
                 .duree("2 mois")
@@ -475,9 +488,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Pose Lace Frontale")
                 .metaDescription("Apprenez la pose lace frontale et la customisation coiffure.")
                 .slug("pose-lace-frontale")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Décoration événementielle")
                 .description("Formation Décoration événementielle : organisation et décoration de mariages, anniversaires, cérémonies, promotions, etc. 6 mois + stage, pratique sur projets réels, matériel fourni, gestion du devis et du client.")
                 .duree("6 mois")
@@ -499,9 +512,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Décoration événementielle")
                 .metaDescription("Organisation et décoration de mariages, cérémonies, promotions, stage inclus.")
                 .slug("decoration-evenementielle")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Confection des perruques + Pose laces + Traitement + Coloration + Customisation")
                 .description("Formation complète en perruquerie : confection à la main et à la machine, pose laces frontales, traitement, coloration, customisation. 3 mois + stage, pratique intensive, matériel pro fourni.")
                 .duree("3 mois")
@@ -523,9 +536,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Perruquerie complète")
                 .metaDescription("Confection, pose, traitement, coloration, customisation perruques.")
                 .slug("perruque-complete")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Coiffure Professionnelle Femme")
                 .description("Formation Coiffure Pro Femme : tresses, chignons, brushing, coloration, coupe, gestion clientèle. 5 mois + stage, pratique sur modèles, matériel fourni, accompagnement pro.")
                 .duree("5 mois")
@@ -547,9 +560,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Coiffure Femme")
                 .metaDescription("Techniques complètes de coiffure pour femmes, pratique et stage inclus.")
                 .slug("coiffure-femme")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Esthétique Professionnelle")
                 .description("Formation Esthétique : soins visage, épilation, gommage, massage, hygiène, gestion clientèle. 5 mois + stage, pratique en institut, matériel fourni, encadrement professionnel.")
                 .duree("5 mois")
@@ -571,9 +584,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Esthétique Professionnelle")
                 .metaDescription("Soins visage, épilation, massage, gommage, hygiène, stage inclus.")
                 .slug("esthetique-professionnelle")
-                .build(), "system");
+                .build());
 
-        formationUseCase.creerFormation(Formation.builder()
+        formations.add(Formation.builder()
                 .nom("Cosmétiques")
                 .description("Formation Cosmétique : fabrication de savons, laits, lotions, huiles, gels, suivi entreprise, pratique et stage. 5 mois + 2 mois de suivi, matériel fourni, accompagnement pro.")
                 .duree("5 mois")
@@ -595,6 +608,9 @@ public class FormationSeeder implements CommandLineRunner {
                 .metaTitle("Formation Cosmétique Pro")
                 .metaDescription("Fabrication de produits cosmétiques, suivi entreprise, stage inclus.")
                 .slug("cosmetiques")
-                .build(), "system");
+                .build());
+
+        // Une seule passe par lots plutôt qu'une transaction par formation
+        formationUseCase.importerFormations(formations.iterator(), "system");
     }
 }
\ No newline at end of file
@@ -3,8 +3,17 @@ package cm.beautysempire.institut.infrastructure.config;
 import cm.beautysempire.institut.application.port.StoragePort;
 import cm.beautysempire.institut.application.service.GalleryUseCase;
 import cm.beautysempire.institut.domain.gallery.GalleryImageRepositoryPort;
+import cm.beautysempire.institut.infrastructure.storage.ExecuteurEnvoisVirtuel;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.file.Path;
 
 @Configuration
 public class GalleryConfig {
@@ -12,7 +21,36 @@ public class GalleryConfig {
     @Bean
     public GalleryUseCase galleryUseCase(
             GalleryImageRepositoryPort galleryRepositoryPort,
-            StoragePort storagePort) {
-        return new GalleryUseCase(galleryRepositoryPort, storagePort);
+            StoragePort storagePort,
+            @Qualifier("executeurEnvoisGalerie") TaskExecutor executeurEnvoisGalerie,
+            @Value("${app.gallery.envoi.dossier:${java.io.tmpdir}/ibe-galerie}") Path dossierTemporaire) {
+        return new GalleryUseCase(galleryRepositoryPort, storagePort, executeurEnvoisGalerie, dossierTemporaire);
+    }
+
+    // Envois vers Cloudinary : quelques envois simultanés, une file bornée derrière.
+    // Au-delà, l'image est marquée ECHEC au lieu d'accumuler des fichiers sur disque.
+    @Bean("executeurEnvoisGalerie")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor executeurEnvoisGalerie(
+            @Value("${app.gallery.envoi.paralleles:4}") int paralleles,
+            @Value("${app.gallery.envoi.file:200}") int capaciteFile) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(paralleles);
+        executor.setMaxPoolSize(paralleles);
+        executor.setQueueCapacity(capaciteFile);
+        executor.setThreadNamePrefix("envoi-galerie-");
+        // Arrêt propre : on laisse finir les envois déjà acceptés
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    // Même bornes avec des threads virtuels : l'attente d'un envoi bloqué ne retient plus de thread système
+    @Bean("executeurEnvoisGalerie")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecuteurEnvoisVirtuel executeurEnvoisGalerieVirtuel(
+            @Value("${app.gallery.envoi.paralleles:4}") int paralleles,
+            @Value("${app.gallery.envoi.file:200}") int capaciteFile) {
+        return new ExecuteurEnvoisVirtuel("envoi-galerie-", paralleles, capaciteFile, 60_000);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,14 @@
 package cm.beautysempire.institut.infrastructure.config;
 
+import cm.beautysempire.institut.application.port.EnvoiNotificationPort;
+import cm.beautysempire.institut.application.port.FileMessagesPort;
 import cm.beautysempire.institut.application.port.WhatsAppNotifierPort;
 import cm.beautysempire.institut.application.service.MessageUseCase;
+import cm.beautysempire.institut.application.service.StatistiquesUseCase;
 import cm.beautysempire.institut.domain.formation.FormationRepositoryPort;
 import cm.beautysempire.institut.domain.messages.MessageRepositoryPort;
+import cm.beautysempire.institut.infrastructure.notification.EnvoiNotificationJournal;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,7 +19,22 @@ public class MessageConfig {
     public MessageUseCase messageUseCase(
             MessageRepositoryPort messageRepositoryPort,
             FormationRepositoryPort formationRepositoryPort,
-            WhatsAppNotifierPort whatsAppNotifierPort) {
-        return new MessageUseCase(messageRepositoryPort, formationRepositoryPort, whatsAppNotifierPort);
+            WhatsAppNotifierPort whatsAppNotifierPort,
+            FileMessagesPort fileMessagesPort,
+            StatistiquesUseCase statistiquesUseCase,
+            @Value("${app.messages.boite.fenetre-mois:6}") int fenetreBoiteMois) {
+        return new MessageUseCase(messageRepositoryPort, formationRepositoryPort, whatsAppNotifierPort,
+                fileMessagesPort, statistiquesUseCase, fenetreBoiteMois);
     }
-}
\ No newline at end of file
+
+    // Seul le mode "journal" existe pour l'instant ; un fournisseur réel (API WhatsApp, SMTP) viendra ici
+    @Bean
+    public EnvoiNotificationPort envoiNotificationPort(
+            WhatsAppNotifierPort whatsAppNotifierPort,
+            @Value("${app.notifications.envoi:journal}") String envoi) {
+        return switch (envoi) {
+            case "journal" -> new EnvoiNotificationJournal(whatsAppNotifierPort);
+            default -> throw new IllegalStateException("app.notifications.envoi inconnu : " + envoi);
+        };
+    }
+}
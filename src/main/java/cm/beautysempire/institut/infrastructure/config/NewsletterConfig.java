@@ -2,6 +2,7 @@ package cm.beautysempire.institut.infrastructure.config;
 
 import cm.beautysempire.institut.application.port.WhatsAppNotifierPort;
 import cm.beautysempire.institut.application.service.NewsletterUseCase;
+import cm.beautysempire.institut.application.service.StatistiquesUseCase;
 import cm.beautysempire.institut.domain.newsletter.NewsletterRepositoryPort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,8 +13,9 @@ public class NewsletterConfig {
     @Bean
     public NewsletterUseCase newsletterUseCase(
             NewsletterRepositoryPort newsletterRepositoryPort,
-            WhatsAppNotifierPort whatsAppNotifierPort
+            WhatsAppNotifierPort whatsAppNotifierPort,
+            StatistiquesUseCase statistiquesUseCase
     ){
-        return new NewsletterUseCase(newsletterRepositoryPort, whatsAppNotifierPort);
+        return new NewsletterUseCase(newsletterRepositoryPort, whatsAppNotifierPort, statistiquesUseCase);
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package cm.beautysempire.institut.infrastructure.config;
+
+import cm.beautysempire.institut.infrastructure.observabilite.ComptageRequetesSql;
+import cm.beautysempire.institut.infrastructure.observabilite.ComptageRequetesSqlFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class ObservabiliteConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer comptageRequetesSql() {
+        return proprietes -> proprietes.put(AvailableSettings.STATEMENT_INSPECTOR, new ComptageRequetesSql());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ComptageRequetesSqlFilter> comptageRequetesSqlRegistration(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ComptageRequetesSqlFilter> registrationBean =
+                new FilterRegistrationBean<>(new ComptageRequetesSqlFilter(meterRegistry));
+        registrationBean.addUrlPatterns("/api/*");
+        // Avant tous les autres filtres : les requêtes faites par les filtres (rate limiting...) comptent aussi
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+}
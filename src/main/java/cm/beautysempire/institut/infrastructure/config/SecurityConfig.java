@@ -1,5 +1,7 @@
 package cm.beautysempire.institut.infrastructure.config;
 
+import cm.beautysempire.institut.infrastructure.security.JwtJetonAdminAdapter;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,12 +16,23 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Configuration
@@ -35,6 +48,9 @@ public class SecurityConfig {
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
 
+    @Value("${app.admin.token.secret}")
+    private String tokenSecret;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -58,13 +74,24 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .httpBasic(Customizer.withDefaults()) // Authentification basique (Username/Password dans le Header)
+                // Jeton Bearer obtenu via /api/auth/token : vérifié par HMAC, évite un BCrypt à chaque requête admin
+                .oauth2ResourceServer(o -> o.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())))
                 .authorizeHttpRequests(authz -> authz
+                        // 🔴 Suivi des envois de la galerie (sous /api/gallery/** mais réservé à l'admin)
+                        .requestMatchers("/api/gallery/admin/**").hasRole("ADMIN")
+
+                        // 🔴 Export complet du catalogue (sous /api/formations/** mais réservé à l'admin)
+                        .requestMatchers(HttpMethod.GET, "/api/formations/export").hasRole("ADMIN")
+
                         // 🟢 ROUTES PUBLIQUES (Lecture)
-                        .requestMatchers(HttpMethod.GET, "/api/formations/**", "/api/gallery/**", "/api/testimonials").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/formations/**", "/api/gallery/**", "/api/testimonials", "/api/testimonials/scroll").permitAll()
 
                         // 🟢 ROUTES PUBLIQUES (Écriture - protégées par le Rate Limiter)
                         .requestMatchers(HttpMethod.POST, "/api/messages/**", "/api/newsletter/subscribe").permitAll()
 
+                        // 🔴 Métriques et démarrage (scrape Prometheus en Basic)
+                        .requestMatchers("/actuator/prometheus", "/actuator/startup").hasRole("ADMIN")
+
                         // 🟢 SWAGGER & ACTUATOR
                         .requestMatchers("/actuator/health", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
@@ -74,6 +101,38 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @Bean
+    public JwtEncoder jwtEncoder() {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(cleJetons()));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder() {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(cleJetons())
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(JwtJetonAdminAdapter.EMETTEUR));
+        return decoder;
+    }
+
+    private JwtAuthenticationConverter jwtAuthenticationConverter() {
+        // Le claim "roles" (["ADMIN"]) devient l'autorité ROLE_ADMIN, comme pour l'utilisateur Basic
+        JwtGrantedAuthoritiesConverter roles = new JwtGrantedAuthoritiesConverter();
+        roles.setAuthoritiesClaimName(JwtJetonAdminAdapter.CLAIM_ROLES);
+        roles.setAuthorityPrefix("ROLE_");
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(roles);
+        return converter;
+    }
+
+    private SecretKey cleJetons() {
+        byte[] octets = tokenSecret.getBytes(StandardCharsets.UTF_8);
+        if (octets.length < 32) {
+            throw new IllegalStateException("app.admin.token.secret doit contenir au moins 32 octets (HS256)");
+        }
+        return new SecretKeySpec(octets, "HmacSHA256");
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
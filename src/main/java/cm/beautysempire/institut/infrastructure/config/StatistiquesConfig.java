@@ -0,0 +1,19 @@
+package cm.beautysempire.institut.infrastructure.config;
+
+import cm.beautysempire.institut.application.service.StatistiquesUseCase;
+import cm.beautysempire.institut.domain.statistiques.StatistiquesRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class StatistiquesConfig {
+
+    @Bean
+    public StatistiquesUseCase statistiquesUseCase(StatistiquesRepositoryPort statistiquesRepositoryPort,
+                                                   @Value("${app.stats.cliche.duree-max:5m}") Duration dureeMaxCliche) {
+        return new StatistiquesUseCase(statistiquesRepositoryPort, dureeMaxCliche);
+    }
+}
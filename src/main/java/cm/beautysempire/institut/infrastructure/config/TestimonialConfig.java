@@ -1,6 +1,7 @@
 // infrastructure/config/TestimonialConfig.java
 package cm.beautysempire.institut.infrastructure.config;
 
+import cm.beautysempire.institut.application.service.StatistiquesUseCase;
 import cm.beautysempire.institut.application.service.TestimonialUseCase;
 import cm.beautysempire.institut.domain.testimonial.TestimonialRepositoryPort;
 import org.springframework.context.annotation.Bean;
@@ -9,7 +10,7 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class TestimonialConfig {
     @Bean
-    public TestimonialUseCase testimonialUseCase(TestimonialRepositoryPort port) {
-        return new TestimonialUseCase(port);
+    public TestimonialUseCase testimonialUseCase(TestimonialRepositoryPort port, StatistiquesUseCase statistiquesUseCase) {
+        return new TestimonialUseCase(port, statistiquesUseCase);
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package cm.beautysempire.institut.infrastructure.notification;
+
+import cm.beautysempire.institut.application.port.EnvoiNotificationPort;
+import cm.beautysempire.institut.infrastructure.persistence.message.BoiteEnvoiNotifications;
+import cm.beautysempire.institut.infrastructure.persistence.message.BoiteEnvoiNotifications.NotificationAEnvoyer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// Envoie les notifications de la boîte d'envoi, en arrière-plan et par lots.
+// Plusieurs instances peuvent tourner en même temps : chaque lot est réclamé avec SKIP LOCKED.
+// Aucune connexion n'est gardée pendant l'envoi : réclamation et acquittement sont deux courtes transactions.
+@Component
+@ConditionalOnProperty(name = "app.notifications.dispatcheur.actif", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class DispatcheurNotifications {
+
+    private final BoiteEnvoiNotifications boiteEnvoi;
+    private final EnvoiNotificationPort envoiNotificationPort;
+    private final int tailleLot;
+    private final Duration bail;
+    private final int tentativesMax;
+    private final Duration attenteInitiale;
+    private final Duration attenteMax;
+
+    private final Timer dureeEnvoi;
+    private final Counter envoyees;
+    private final Counter echecs;
+    private final Counter abandonnees;
+
+    public DispatcheurNotifications(BoiteEnvoiNotifications boiteEnvoi,
+                                    EnvoiNotificationPort envoiNotificationPort,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.notifications.taille-lot:50}") int tailleLot,
+                                    @Value("${app.notifications.bail:5m}") Duration bail,
+                                    @Value("${app.notifications.tentatives-max:8}") int tentativesMax,
+                                    @Value("${app.notifications.attente-initiale:30s}") Duration attenteInitiale,
+                                    @Value("${app.notifications.attente-max:1h}") Duration attenteMax) {
+        this.boiteEnvoi = boiteEnvoi;
+        this.envoiNotificationPort = envoiNotificationPort;
+        this.tailleLot = tailleLot;
+        this.bail = bail;
+        this.tentativesMax = tentativesMax;
+        this.attenteInitiale = attenteInitiale;
+        this.attenteMax = attenteMax;
+
+        this.dureeEnvoi = Timer.builder("institut.notifications.envoi")
+                .description("Durée d'envoi d'une notification")
+                .register(meterRegistry);
+        this.envoyees = Counter.builder("institut.notifications.envoyees")
+                .description("Notifications envoyées")
+                .register(meterRegistry);
+        this.echecs = Counter.builder("institut.notifications.echecs")
+                .description("Envois échoués, reprogrammés")
+                .register(meterRegistry);
+        this.abandonnees = Counter.builder("institut.notifications.abandonnees")
+                .description("Notifications abandonnées après le nombre maximal de tentatives")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.intervalle-ms:5000}")
+    public void distribuer() {
+        try {
+            List<NotificationAEnvoyer> lot;
+            do {
+                lot = boiteEnvoi.reclamer(tailleLot, bail);
+                lot.forEach(this::envoyer);
+            } while (lot.size() == tailleLot);
+        } catch (DataAccessException e) {
+            // Base indisponible : les notifications attendent le prochain passage
+            log.warn("Boîte d'envoi inaccessible : {}", e.getMessage());
+        }
+    }
+
+    private void envoyer(NotificationAEnvoyer notification) {
+        try {
+            dureeEnvoi.record(() -> envoiNotificationPort.envoyer(notification.canal(), notification.message()));
+        } catch (RuntimeException e) {
+            echouer(notification, e);
+            return;
+        }
+        // Si l'acquittement échoue, la notification sera renvoyée à la fin du bail (au moins une fois)
+        boiteEnvoi.marquerEnvoyee(notification);
+        envoyees.increment();
+    }
+
+    private void echouer(NotificationAEnvoyer notification, RuntimeException e) {
+        String erreur = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (notification.tentatives() >= tentativesMax) {
+            boiteEnvoi.abandonner(notification.id(), erreur);
+            abandonnees.increment();
+            log.error("Notification {} du message {} abandonnée après {} tentatives", notification.canal(),
+                    notification.message().getReference(), notification.tentatives(), e);
+            return;
+        }
+        Duration attente = attenteAvant(notification.tentatives());
+        boiteEnvoi.reporter(notification.id(), erreur, attente);
+        echecs.increment();
+        log.warn("Échec d'envoi {} du message {} (tentative {}), nouvel essai dans {}", notification.canal(),
+                notification.message().getReference(), notification.tentatives(), attente, e);
+    }
+
+    // 30 s, 1 min, 2 min... plafonné
+    private Duration attenteAvant(int tentatives) {
+        Duration attente = attenteInitiale.multipliedBy(1L << Math.min(tentatives - 1, 20));
+        return attente.compareTo(attenteMax) > 0 ? attenteMax : attente;
+    }
+}
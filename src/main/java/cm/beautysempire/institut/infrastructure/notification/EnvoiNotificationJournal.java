@@ -0,0 +1,27 @@
+package cm.beautysempire.institut.infrastructure.notification;
+
+import cm.beautysempire.institut.application.port.EnvoiNotificationPort;
+import cm.beautysempire.institut.application.port.WhatsAppNotifierPort;
+import cm.beautysempire.institut.domain.messages.CanalNotification;
+import cm.beautysempire.institut.domain.messages.Message;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Envoi "local" (app.notifications.envoi=journal) : rien ne sort de l'application, la notification
+// est écrite dans les logs. Sert en développement et tant qu'aucun fournisseur n'est branché.
+@Slf4j
+@RequiredArgsConstructor
+public class EnvoiNotificationJournal implements EnvoiNotificationPort {
+
+    private final WhatsAppNotifierPort whatsAppNotifierPort;
+
+    @Override
+    public void envoyer(CanalNotification canal, Message message) {
+        switch (canal) {
+            case WHATSAPP_ADMIN -> log.info("[WhatsApp admin] message {} : {}",
+                    message.getReference(), whatsAppNotifierPort.genererLienAdmin(message));
+            case EMAIL_CONFIRMATION -> log.info("[Email] confirmation du message {} à {}",
+                    message.getReference(), message.getEmail());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package cm.beautysempire.institut.infrastructure.notification;
 import cm.beautysempire.institut.application.port.WhatsAppNotifierPort;
 import cm.beautysempire.institut.domain.messages.Message;
 import cm.beautysempire.institut.domain.messages.TypeMessage;
+import cm.beautysempire.institut.domain.shared.TelephoneE164;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -63,9 +64,8 @@ public class WhatsAppNotifierAdapter implements WhatsAppNotifierPort {
     }
 
     private String construireLien(String phone, String texte) {
-        if (phone == null) return "";
-        String clean = phone.replaceAll("[^0-9]", "");
-        String num = clean.startsWith("237") ? clean : "237" + clean;
+        String num = TelephoneE164.chiffresInternationaux(phone);
+        if (num == null) return "";
         return "https://wa.me/" + num + "?text=" + URLEncoder.encode(texte, StandardCharsets.UTF_8);
     }
 }
\ No newline at end of file
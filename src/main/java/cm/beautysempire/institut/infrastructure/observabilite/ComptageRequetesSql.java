@@ -0,0 +1,29 @@
+package cm.beautysempire.institut.infrastructure.observabilite;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Compte les requêtes SQL émises par Hibernate pendant la requête HTTP en cours (même thread).
+// Les accès JdbcTemplate (écritures par lots, empreintes...) ne passent pas par Hibernate et ne sont pas comptés.
+public class ComptageRequetesSql implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COMPTEUR = new ThreadLocal<>();
+
+    static void demarrer() {
+        COMPTEUR.set(new long[1]);
+    }
+
+    static long terminer() {
+        long[] compteur = COMPTEUR.get();
+        COMPTEUR.remove();
+        return compteur == null ? 0 : compteur[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] compteur = COMPTEUR.get();
+        if (compteur != null) {
+            compteur[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,43 @@
+package cm.beautysempire.institut.infrastructure.observabilite;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Nombre de requêtes SQL (Hibernate) par requête HTTP, par route : un N+1 se voit dans la distribution.
+// Enregistré uniquement par ObservabiliteConfig (comptageRequetesSqlRegistration).
+public class ComptageRequetesSqlFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public ComptageRequetesSqlFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ComptageRequetesSql.demarrer();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long requetes = ComptageRequetesSql.terminer();
+            // Route du contrôleur (/api/formations/{id}...) ; absente si la réponse est venue d'un filtre (304, cache)
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("institut.http.requetes.sql")
+                    .description("Requêtes SQL Hibernate émises par requête HTTP")
+                    .tag("method", request.getMethod())
+                    .tag("uri", route != null ? route.toString() : "AUCUNE")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(requetes);
+        }
+    }
+}
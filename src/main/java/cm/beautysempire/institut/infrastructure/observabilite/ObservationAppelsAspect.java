@@ -0,0 +1,55 @@
+package cm.beautysempire.institut.infrastructure.observabilite;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+// Une observation (timer + histogramme, et span si le traçage est actif) par appel de cas d'usage
+// et par appel de port (dépôts JPA, cache du catalogue, Cloudinary, file des messages...).
+// La durée d'une requête lente se décompose ainsi entre PostgreSQL, Cloudinary et le reste.
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ObservationAppelsAspect {
+
+    public static final String CAS_USAGE = "institut.usecase";
+    public static final String PORT = "institut.port";
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(public * cm.beautysempire.institut.application.service.*UseCase.*(..))")
+    public Object observerCasUsage(ProceedingJoinPoint appel) throws Throwable {
+        return observer(CAS_USAGE, appel);
+    }
+
+    // Ports du domaine et de l'application : l'implémentation appelée (tag "classe") distingue
+    // par exemple FormationCacheAdapter de FormationRepositoryAdapter derrière le même port
+    @Around("execution(* cm.beautysempire.institut.domain..*Port+.*(..)) "
+            + "|| execution(* cm.beautysempire.institut.application.port.*Port+.*(..))")
+    public Object observerPort(ProceedingJoinPoint appel) throws Throwable {
+        return observer(PORT, appel);
+    }
+
+    private Object observer(String nom, ProceedingJoinPoint appel) throws Throwable {
+        String classe = AopUtils.getTargetClass(appel.getTarget()).getSimpleName();
+        String methode = appel.getSignature().getName();
+        Observation observation = Observation.createNotStarted(nom, observationRegistry)
+                .contextualName(classe + "." + methode)
+                .lowCardinalityKeyValue("classe", classe)
+                .lowCardinalityKeyValue("methode", methode)
+                .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            return appel.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+import cm.beautysempire.institut.domain.formation.Formation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Import en masse : les id sont tirés de la séquence en une requête, puis formations et photos
+// partent chacune en un seul lot JDBC (au lieu d'un INSERT + un INSERT par photo, formation par formation).
+@Component
+@RequiredArgsConstructor
+public class FormationBatchWriter {
+
+    private static final String SQL_IDS = "SELECT nextval('formations_id_seq') FROM generate_series(1, ?)";
+
+    private static final String SQL_FORMATION = """
+            INSERT INTO formations (id, version, nom, description, duree, frais_inscription, prix, categorie,
+                                    certificat_delivre, nom_certificat, programme, objectifs, materiel_fourni,
+                                    date_demarrage, date_fin_inscription, jours_formation, horaires, frequence,
+                                    nombre_places, nombre_inscrits_reel, nombre_inscrits_affiche, social_proof_actif,
+                                    photo_principale, active, en_promotion, pourcentage_reduction,
+                                    date_debut_promo, date_fin_promo, date_creation, cree_par_admin, modifie_par,
+                                    nombre_vues, nombre_demandes_info, nombre_inscriptions,
+                                    meta_title, meta_description, slug)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SQL_PHOTO = "INSERT INTO formation_photos (formation_id, photo_url) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public List<Formation> inserer(List<Formation> formations) {
+        if (formations.isEmpty()) return formations;
+
+        List<Long> ids = jdbcTemplate.queryForList(SQL_IDS, Long.class, formations.size());
+        for (int i = 0; i < formations.size(); i++) {
+            formations.get(i).setId(ids.get(i));
+        }
+
+        jdbcTemplate.batchUpdate(SQL_FORMATION, formations, formations.size(), this::lier);
+
+        List<Object[]> photos = new ArrayList<>();
+        for (Formation f : formations) {
+            if (f.getPhotosGalerie() == null) continue;
+            for (String url : f.getPhotosGalerie()) {
+                photos.add(new Object[]{f.getId(), url});
+            }
+        }
+        if (!photos.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_PHOTO, photos);
+        }
+        return formations;
+    }
+
+    private void lier(PreparedStatement ps, Formation f) throws SQLException {
+        int i = 1;
+        ps.setLong(i++, f.getId());
+        ps.setLong(i++, f.getVersion() != null ? f.getVersion() : 0L);
+        ps.setString(i++, f.getNom());
+        ps.setString(i++, f.getDescription());
+        ps.setString(i++, f.getDuree());
+        ps.setBigDecimal(i++, f.getFraisInscription());
+        ps.setBigDecimal(i++, f.getPrix());
+        ps.setString(i++, f.getCategorie());
+        ps.setBoolean(i++, Boolean.TRUE.equals(f.getCertificatDelivre()));
+        ps.setString(i++, f.getNomCertificat());
+        ps.setString(i++, f.getProgramme());
+        ps.setString(i++, f.getObjectifs());
+        ps.setString(i++, f.getMaterielFourni());
+        setDate(ps, i++, f.getDateDemarrage());
+        setDate(ps, i++, f.getDateFinInscription());
+        ps.setString(i++, f.getJoursFormation());
+        ps.setString(i++, f.getHoraires());
+        ps.setString(i++, f.getFrequence());
+        ps.setInt(i++, f.getNombrePlaces());
+        ps.setInt(i++, f.getNombreInscritsReel());
+        ps.setInt(i++, f.getNombreInscritsAffiche());
+        ps.setBoolean(i++, Boolean.TRUE.equals(f.getSocialProofActif()));
+        ps.setString(i++, f.getPhotoPrincipale());
+        ps.setBoolean(i++, Boolean.TRUE.equals(f.getActive()));
+        ps.setBoolean(i++, Boolean.TRUE.equals(f.getEnPromotion()));
+        ps.setBigDecimal(i++, f.getPourcentageReduction() != null ? f.getPourcentageReduction() : BigDecimal.ZERO);
+        setTimestamp(ps, i++, f.getDateDebutPromo());
+        setTimestamp(ps, i++, f.getDateFinPromo());
+        setTimestamp(ps, i++, f.getDateCreation());
+        ps.setString(i++, f.getCreeParAdmin());
+        ps.setString(i++, f.getModifiePar());
+        ps.setInt(i++, f.getNombreVues());
+        ps.setInt(i++, f.getNombreDemandesInfo());
+        ps.setInt(i++, f.getNombreInscriptions());
+        ps.setString(i++, f.getMetaTitle());
+        ps.setString(i++, f.getMetaDescription());
+        ps.setString(i, f.getSlug());
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        if (date != null) {
+            ps.setDate(index, Date.valueOf(date));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime date) throws SQLException {
+        if (date != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(date));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+}
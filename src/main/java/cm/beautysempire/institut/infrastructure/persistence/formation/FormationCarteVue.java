@@ -0,0 +1,38 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Projection de la grille catalogue : seules ces colonnes sont lues, ni TEXT ni formation_photos
+public interface FormationCarteVue {
+
+    Long getId();
+
+    String getSlug();
+
+    String getNom();
+
+    String getCategorie();
+
+    String getDuree();
+
+    BigDecimal getPrix();
+
+    Boolean getEnPromotion();
+
+    BigDecimal getPourcentageReduction();
+
+    LocalDateTime getDateDebutPromo();
+
+    LocalDateTime getDateFinPromo();
+
+    Integer getNombrePlaces();
+
+    Integer getNombreInscritsReel();
+
+    Integer getNombreInscritsAffiche();
+
+    Boolean getSocialProofActif();
+
+    String getPhotoPrincipale();
+}
@@ -0,0 +1,110 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+import cm.beautysempire.institut.domain.formation.Formation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+// Export : les lignes sont lues par paquets via un curseur serveur (fetchSize dans une transaction)
+// et passées une à une à l'appelant ; rien n'est accumulé en mémoire.
+@Component
+public class FormationExportReader {
+
+    private static final int TAILLE_PAQUET = 200;
+
+    // Les photos arrivent avec la formation (une seule requête), séparées par un caractère de contrôle
+    private static final String SEPARATEUR_PHOTOS = "\u001F";
+
+    private static final String SQL_EXPORT = """
+            SELECT f.id, f.version, f.nom, f.description, f.duree, f.frais_inscription, f.prix, f.categorie,
+                   f.certificat_delivre, f.nom_certificat, f.programme, f.objectifs, f.materiel_fourni,
+                   f.date_demarrage, f.date_fin_inscription, f.jours_formation, f.horaires, f.frequence,
+                   f.nombre_places, f.nombre_inscrits_reel, f.nombre_inscrits_affiche, f.social_proof_actif,
+                   f.photo_principale, f.active, f.en_promotion, f.pourcentage_reduction,
+                   f.date_debut_promo, f.date_fin_promo, f.date_creation, f.date_mise_a_jour,
+                   f.cree_par_admin, f.modifie_par, f.nombre_vues, f.nombre_demandes_info, f.nombre_inscriptions,
+                   f.meta_title, f.meta_description, f.slug,
+                   (SELECT string_agg(p.photo_url, E'\\x1F') FROM formation_photos p WHERE p.formation_id = f.id) AS photos
+            FROM formations f
+            ORDER BY f.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FormationExportReader(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(TAILLE_PAQUET);
+    }
+
+    // Le driver PostgreSQL n'utilise un curseur (fetchSize) que hors autocommit : d'où la transaction
+    @Transactional(readOnly = true)
+    public void parcourir(Consumer<Formation> consommateur) {
+        jdbcTemplate.query(SQL_EXPORT, rs -> {
+            consommateur.accept(lire(rs));
+        });
+    }
+
+    private Formation lire(ResultSet rs) throws SQLException {
+        String photos = rs.getString("photos");
+        return Formation.builder()
+                .id(rs.getLong("id"))
+                .version(rs.getLong("version"))
+                .nom(rs.getString("nom"))
+                .description(rs.getString("description"))
+                .duree(rs.getString("duree"))
+                .fraisInscription(rs.getBigDecimal("frais_inscription"))
+                .prix(rs.getBigDecimal("prix"))
+                .categorie(rs.getString("categorie"))
+                .certificatDelivre(rs.getBoolean("certificat_delivre"))
+                .nomCertificat(rs.getString("nom_certificat"))
+                .programme(rs.getString("programme"))
+                .objectifs(rs.getString("objectifs"))
+                .materielFourni(rs.getString("materiel_fourni"))
+                .dateDemarrage(date(rs.getDate("date_demarrage")))
+                .dateFinInscription(date(rs.getDate("date_fin_inscription")))
+                .joursFormation(rs.getString("jours_formation"))
+                .horaires(rs.getString("horaires"))
+                .frequence(rs.getString("frequence"))
+                .nombrePlaces(rs.getInt("nombre_places"))
+                .nombreInscritsReel(rs.getInt("nombre_inscrits_reel"))
+                .nombreInscritsAffiche(rs.getInt("nombre_inscrits_affiche"))
+                .socialProofActif(rs.getBoolean("social_proof_actif"))
+                .photoPrincipale(rs.getString("photo_principale"))
+                .photosGalerie(photos == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(photos.split(SEPARATEUR_PHOTOS))))
+                .active(rs.getBoolean("active"))
+                .enPromotion(rs.getBoolean("en_promotion"))
+                .pourcentageReduction(rs.getBigDecimal("pourcentage_reduction"))
+                .dateDebutPromo(dateHeure(rs.getTimestamp("date_debut_promo")))
+                .dateFinPromo(dateHeure(rs.getTimestamp("date_fin_promo")))
+                .dateCreation(dateHeure(rs.getTimestamp("date_creation")))
+                .dateMiseAJour(dateHeure(rs.getTimestamp("date_mise_a_jour")))
+                .creeParAdmin(rs.getString("cree_par_admin"))
+                .modifiePar(rs.getString("modifie_par"))
+                .nombreVues(rs.getInt("nombre_vues"))
+                .nombreDemandesInfo(rs.getInt("nombre_demandes_info"))
+                .nombreInscriptions(rs.getInt("nombre_inscriptions"))
+                .metaTitle(rs.getString("meta_title"))
+                .metaDescription(rs.getString("meta_description"))
+                .slug(rs.getString("slug"))
+                .build();
+    }
+
+    private static LocalDate date(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static LocalDateTime dateHeure(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
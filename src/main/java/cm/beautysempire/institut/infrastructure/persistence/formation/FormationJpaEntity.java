@@ -2,6 +2,7 @@ package cm.beautysempire.institut.infrastructure.persistence.formation;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -53,7 +54,11 @@ public class FormationJpaEntity {
 
     private String photoPrincipale;
 
+    // Le mapper lit les photos de chaque ligne : sans batch, une page de 12 formations coûtait
+    // 12 SELECT sur formation_photos. Hibernate charge désormais les collections de toute la page
+    // en une requête (id = any(tableau) sur PostgreSQL), et sans JOIN FETCH qui casserait la pagination.
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "formation_photos", joinColumns = @JoinColumn(name = "formation_id"))
     @Column(name = "photo_url")
     private List<String> photosGalerie;
@@ -71,6 +76,8 @@ public class FormationJpaEntity {
 
     private String creeParAdmin;
     private String modifiePar;
+    // Incrémenté uniquement par FormationVuesCompteurAdapter : un save() ne doit pas écraser le compteur
+    @Column(updatable = false)
     private Integer nombreVues;
     private Integer nombreDemandesInfo;
     private Integer nombreInscriptions;
@@ -1,26 +1,77 @@
 package cm.beautysempire.institut.infrastructure.persistence.formation;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FormationJpaRepository extends JpaRepository<FormationJpaEntity, Long> {
     Optional<FormationJpaEntity> findBySlug(String slug);
 
+    @Query("SELECT f.slug FROM FormationJpaEntity f WHERE f.slug IS NOT NULL")
+    List<String> findAllSlugs();
+
     Page<FormationJpaEntity> findByActiveTrue(Pageable pageable);
 
+    // Grille catalogue : colonnes de la carte uniquement (pas de TEXT, pas de formation_photos)
+    @Query(value = "SELECT f.id AS id, f.slug AS slug, f.nom AS nom, f.categorie AS categorie, f.duree AS duree, " +
+            "f.prix AS prix, f.enPromotion AS enPromotion, f.pourcentageReduction AS pourcentageReduction, " +
+            "f.dateDebutPromo AS dateDebutPromo, f.dateFinPromo AS dateFinPromo, f.nombrePlaces AS nombrePlaces, " +
+            "f.nombreInscritsReel AS nombreInscritsReel, f.nombreInscritsAffiche AS nombreInscritsAffiche, " +
+            "f.socialProofActif AS socialProofActif, f.photoPrincipale AS photoPrincipale " +
+            "FROM FormationJpaEntity f WHERE f.active = true",
+            countQuery = "SELECT count(f) FROM FormationJpaEntity f WHERE f.active = true")
+    Page<FormationCarteVue> findCartesActives(Pageable pageable);
+
+    // Pagination par curseur : pas d'OFFSET ni de count(*), l'index (date_creation, id) fait le travail (Flyway V9)
+    @Query("SELECT f FROM FormationJpaEntity f WHERE f.active = true ORDER BY f.dateCreation DESC, f.id DESC")
+    List<FormationJpaEntity> findActivesPremierePage(Limit limit);
+
+    @Query("SELECT f FROM FormationJpaEntity f WHERE f.active = true AND (f.dateCreation, f.id) < (:date, :id) " +
+            "ORDER BY f.dateCreation DESC, f.id DESC")
+    List<FormationJpaEntity> findActivesApres(@Param("date") LocalDateTime date, @Param("id") Long id, Limit limit);
+
+    // Un seul UPDATE conditionnel : la base garantit qu'on ne dépasse jamais nombrePlaces.
+    // La version est incrémentée pour qu'une édition admin concurrente n'écrase pas le compteur.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE FormationJpaEntity f SET " +
+            "f.nombreInscritsReel = f.nombreInscritsReel + 1, " +
+            "f.nombreInscriptions = f.nombreInscriptions + 1, " +
+            "f.nombreInscritsAffiche = CASE WHEN f.socialProofActif = true THEN f.nombreInscritsAffiche ELSE f.nombreInscritsReel + 1 END, " +
+            "f.version = f.version + 1 " +
+            "WHERE f.id = :id AND f.active = true AND f.nombreInscritsReel < f.nombrePlaces")
+    int reserverPlace(@Param("id") Long id);
+
     boolean existsByNomIgnoreCase(String nom);
 
-    @Query("SELECT f FROM FormationJpaEntity f WHERE f.active = true AND " +
-            "(LOWER(f.nom) LIKE LOWER(CONCAT('%', :motCle, '%')) OR " +
-            "LOWER(f.description) LIKE LOWER(CONCAT('%', :motCle, '%')) OR " +
-            "LOWER(f.categorie) LIKE LOWER(CONCAT('%', :motCle, '%')))")
-    Page<FormationJpaEntity> searchByMotCle(@Param("motCle") String motCle, Pageable pageable);
+    @Query("SELECT lower(f.nom) FROM FormationJpaEntity f WHERE lower(f.nom) IN :noms")
+    List<String> findNomsExistants(@Param("noms") Collection<String> nomsMinuscules);
+
+    // Recherche plein texte sur la colonne search_vector (index GIN, Flyway V8), triée par pertinence.
+    // L'extrait est calculé après le tri, seulement pour les lignes de la page.
+    // Pas de ';' littéral dans la requête (d'où chr(59)) : Hibernate place la pagination avant le premier ';'.
+    @Query(value = "SELECT f.id AS id, " +
+            "ts_rank_cd(f.search_vector, requete)::float8 AS score, " +
+            "ts_headline('fr_unaccent', " +
+            "  replace(replace(replace(f.description, '&', '&amp' || chr(59)), '<', '&lt' || chr(59)), '>', '&gt' || chr(59)), requete, " +
+            "  'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MinWords=8, MaxWords=20') AS extrait " +
+            "FROM formations f, to_tsquery('fr_unaccent', :requete) requete " +
+            "WHERE f.active = true AND f.search_vector @@ requete " +
+            "ORDER BY score DESC, f.date_creation DESC, f.id DESC",
+            countQuery = "SELECT count(*) FROM formations f " +
+                    "WHERE f.active = true AND f.search_vector @@ to_tsquery('fr_unaccent', :requete)",
+            nativeQuery = true)
+    Page<FormationSearchHit> rechercherPleinTexte(@Param("requete") String requete, Pageable pageable);
 
 
     long countByActiveTrue();
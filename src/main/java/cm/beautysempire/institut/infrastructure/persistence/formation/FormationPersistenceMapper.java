@@ -1,5 +1,6 @@
 package cm.beautysempire.institut.infrastructure.persistence.formation;
 
+import cm.beautysempire.institut.domain.formation.CarteFormation;
 import cm.beautysempire.institut.domain.formation.Formation;
 import org.mapstruct.Mapper;
 
@@ -9,6 +10,9 @@ public interface FormationPersistenceMapper {
     // JPA -> Domain
     Formation toDomain(FormationJpaEntity entity);
 
+    // Projection -> carte catalogue
+    CarteFormation toCarte(FormationCarteVue vue);
+
     // Domain -> JPA
     FormationJpaEntity toEntity(Formation domain);
 }
\ No newline at end of file
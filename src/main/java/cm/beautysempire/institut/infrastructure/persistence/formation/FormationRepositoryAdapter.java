@@ -1,54 +1,121 @@
 package cm.beautysempire.institut.infrastructure.persistence.formation;
 
+import cm.beautysempire.institut.application.exception.SlugDejaPrisException;
+import cm.beautysempire.institut.domain.formation.CarteFormation;
 import cm.beautysempire.institut.domain.formation.Formation;
 import cm.beautysempire.institut.domain.formation.FormationRepositoryPort;
+import cm.beautysempire.institut.domain.formation.ResultatRechercheFormation;
+import cm.beautysempire.institut.domain.shared.Curseur;
+import cm.beautysempire.institut.infrastructure.persistence.shared.Tranches;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class FormationRepositoryAdapter implements FormationRepositoryPort {
 
+    private static final Pattern SEPARATEURS_MOTS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Nom donné par PostgreSQL à la contrainte UNIQUE de formations.slug (V1)
+    private static final String CONTRAINTE_SLUG = "formations_slug_key";
+
     private final FormationJpaRepository jpaRepository;
     private final FormationPersistenceMapper mapper;
+    private final FormationBatchWriter batchWriter;
+    private final FormationExportReader exportReader;
 
     @Override
     public Formation save(Formation formation) {
         FormationJpaEntity entity = mapper.toEntity(formation);
-        FormationJpaEntity savedEntity = jpaRepository.save(entity);
+        FormationJpaEntity savedEntity;
+        try {
+            savedEntity = jpaRepository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw traduireConflitSlug(e);
+        }
         return mapper.toDomain(savedEntity);
     }
 
+    // Les photos (collection paresseuse) sont lues par le mapper : la session doit rester ouverte
+    // même hors d'une requête HTTP (pas d'open-in-view pour un appel planifié ou un test)
     @Override
+    @Transactional(readOnly = true)
     public Optional<Formation> findById(Long id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Formation> findBySlug(String slug) {
         return jpaRepository.findBySlug(slug).map(mapper::toDomain);
     }
 
+    @Override
+    public boolean reserverPlace(Long formationId) {
+        return jpaRepository.reserverPlace(formationId) == 1;
+    }
 
     @Override
     public Page<Formation> findAllActivePaginated(Pageable pageable) {
         return jpaRepository.findByActiveTrue(pageable).map(mapper::toDomain);
     }
 
+    @Override
+    public Page<CarteFormation> findCartesActives(Pageable pageable) {
+        return jpaRepository.findCartesActives(pageable).map(mapper::toCarte);
+    }
+
+    @Override
+    public Slice<Formation> findActivesApres(Curseur apres, int taille) {
+        List<FormationJpaEntity> lignes = apres == null
+                ? jpaRepository.findActivesPremierePage(Tranches.limite(taille))
+                : jpaRepository.findActivesApres(apres.date(), apres.id(), Tranches.limite(taille));
+        return Tranches.decouper(lignes, taille, mapper::toDomain);
+    }
+
     @Override
     public boolean existsByNom(String nom) {
         return jpaRepository.existsByNomIgnoreCase(nom);
     }
 
     @Override
-    public Page<Formation> searchActiveFormations(String motCle, Pageable pageable) {
-        return jpaRepository.searchByMotCle(motCle, pageable).map(mapper::toDomain);
+    public Page<ResultatRechercheFormation> searchActiveFormations(String motCle, Pageable pageable) {
+        String requete = construireRequetePleinTexte(motCle);
+        if (requete.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<FormationSearchHit> hits = jpaRepository.rechercherPleinTexte(requete, pageable);
+
+        // On charge les formations de la page en une requête, puis on respecte l'ordre de pertinence
+        List<Long> ids = hits.getContent().stream().map(FormationSearchHit::getId).toList();
+        Map<Long, Formation> formationsParId = jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toMap(Formation::getId, Function.identity()));
+
+        List<ResultatRechercheFormation> resultats = hits.getContent().stream()
+                .filter(hit -> formationsParId.containsKey(hit.getId()))
+                .map(hit -> new ResultatRechercheFormation(formationsParId.get(hit.getId()), hit.getScore(), hit.getExtrait()))
+                .toList();
+        return new PageImpl<>(resultats, pageable, hits.getTotalElements());
     }
 
     @Override
@@ -66,9 +133,50 @@ public class FormationRepositoryAdapter implements FormationRepositoryPort {
         return jpaRepository.findAll(pageable).map(mapper::toDomain);
     }
 
+    // "maquillage pro" -> "maquillage:* & pro:*" : chaque mot doit apparaître, en préfixe
+    // (recherche au fil de la frappe). Seuls lettres et chiffres sont conservés, la syntaxe
+    // tsquery ne peut donc pas être injectée.
+    private String construireRequetePleinTexte(String motCle) {
+        if (motCle == null) return "";
+        return Arrays.stream(SEPARATEURS_MOTS.split(motCle))
+                .filter(mot -> !mot.isBlank())
+                .limit(8)
+                .map(mot -> mot + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
     @Override
     public Page<Formation> searchAdminFormations(String motCle, String status, Pageable pageable) {
         return jpaRepository.searchAdminFormations(motCle, status, pageable).map(mapper::toDomain);
     }
 
-}
\ No newline at end of file
+    @Override
+    public Set<String> findNomsExistants(Collection<String> nomsMinuscules) {
+        if (nomsMinuscules.isEmpty()) return Set.of();
+        return new HashSet<>(jpaRepository.findNomsExistants(nomsMinuscules));
+    }
+
+    @Override
+    public List<Formation> insererEnLot(List<Formation> formations) {
+        try {
+            return batchWriter.inserer(formations);
+        } catch (DataIntegrityViolationException e) {
+            throw traduireConflitSlug(e);
+        }
+    }
+
+    // Slug pris par une autre instance : le cas de conflit que FormationUseCase sait rattraper.
+    // Toute autre violation de contrainte remonte telle quelle.
+    private RuntimeException traduireConflitSlug(DataIntegrityViolationException e) {
+        String cause = e.getMostSpecificCause().getMessage();
+        if (cause != null && cause.contains(CONTRAINTE_SLUG)) {
+            return new SlugDejaPrisException("Slug de formation déjà pris", e);
+        }
+        return e;
+    }
+
+    @Override
+    public void parcourirTout(Consumer<Formation> consommateur) {
+        exportReader.parcourir(consommateur);
+    }
+}
@@ -0,0 +1,11 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+// Projection de la requête plein texte : l'id, le score et l'extrait surligné
+public interface FormationSearchHit {
+
+    Long getId();
+
+    Double getScore();
+
+    String getExtrait();
+}
@@ -0,0 +1,112 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+import cm.beautysempire.institut.application.port.CompteurVuesPort;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.TransactionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Compteur de vues "write-behind" : les vues sont cumulées en mémoire (LongAdder, sans verrou)
+// puis écrites périodiquement par lot, sans charger l'entité ni toucher à la colonne version.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FormationVuesCompteurAdapter implements CompteurVuesPort {
+
+    private static final String SQL_INCREMENT_VUES =
+            "UPDATE formations SET nombre_vues = nombre_vues + ? WHERE id = ?";
+
+    // Agrégat journalier pour les tendances du tableau de bord : les vues sont datées du jour
+    // de leur écriture (au pire quelques secondes de décalage autour de minuit)
+    private static final String SQL_VUES_DU_JOUR =
+            "INSERT INTO formation_vues_quotidiennes (jour, formation_id, vues) VALUES (?, ?, ?) " +
+            "ON CONFLICT (jour, formation_id) DO UPDATE SET vues = formation_vues_quotidiennes.vues + EXCLUDED.vues";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Compteur> compteurs = new ConcurrentHashMap<>();
+    private final ReentrantLock verrouVidage = new ReentrantLock();
+
+    @Override
+    public void enregistrerVue(Long formationId) {
+        if (formationId == null) return;
+        compteurs.computeIfAbsent(formationId, id -> new Compteur()).vues.increment();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.formations.vues.flush-interval-ms:10000}")
+    public void vider() {
+        // Un seul passage à la fois (tâche planifiée et arrêt) ; ReentrantLock car on écrit en base
+        // sous le verrou, ce qu'un synchronized ferait payer au thread porteur d'un thread virtuel
+        verrouVidage.lock();
+        try {
+            viderSousVerrou();
+        } finally {
+            verrouVidage.unlock();
+        }
+    }
+
+    private void viderSousVerrou() {
+        List<Object[]> lot = new ArrayList<>();
+        List<Object[]> lotDuJour = new ArrayList<>();
+        Date aujourdhui = Date.valueOf(LocalDate.now());
+        List<Compteur> concernes = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        compteurs.forEach((formationId, compteur) -> {
+            long delta = compteur.vues.sum() - compteur.dejaEcrites;
+            if (delta > 0) {
+                lot.add(new Object[]{delta, formationId});
+                lotDuJour.add(new Object[]{aujourdhui, formationId, delta});
+                concernes.add(compteur);
+                deltas.add(delta);
+            }
+        });
+
+        if (lot.isEmpty()) return;
+
+        try {
+            // Les deux écritures réussissent ou échouent ensemble, sinon un nouvel essai compterait deux fois
+            transactionTemplate.executeWithoutResult(statut -> {
+                jdbcTemplate.batchUpdate(SQL_INCREMENT_VUES, lot);
+                jdbcTemplate.batchUpdate(SQL_VUES_DU_JOUR, lotDuJour);
+            });
+        } catch (DataAccessException | TransactionException e) {
+            // On ne perd rien : les deltas non écrits seront retentés au prochain passage
+            log.error("Échec de l'écriture de {} compteur(s) de vues, nouvel essai au prochain cycle", lot.size(), e);
+            return;
+        }
+
+        for (int i = 0; i < concernes.size(); i++) {
+            concernes.get(i).dejaEcrites += deltas.get(i);
+        }
+        log.debug("{} compteur(s) de vues écrits en base", lot.size());
+    }
+
+    // Arrêt propre : on vide ce qui reste avant que la DataSource ne soit fermée
+    @PreDestroy
+    public void arreter() {
+        vider();
+    }
+
+    private static final class Compteur {
+        private final LongAdder vues = new LongAdder();
+        // Modifié uniquement sous le verrou de vider()
+        private long dejaEcrites;
+    }
+}
@@ -0,0 +1,69 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+import cm.beautysempire.institut.application.port.IndexSlugsPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Slugs déjà pris, gardés en mémoire : l'unicité se décide avant l'INSERT, la contrainte UNIQUE
+// de la colonne n'est plus qu'un garde-fou. Chargé depuis la base à la première création.
+// L'index est propre à chaque instance : un conflit avec une autre instance est rattrapé par recharger().
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndexSlugsAdapter implements IndexSlugsPort {
+
+    private final FormationJpaRepository jpaRepository;
+
+    private final ReentrantLock verrouChargement = new ReentrantLock();
+    private volatile Set<String> slugs;
+
+    @Override
+    public String reserver(String slugSouhaite) {
+        Set<String> pris = charger();
+        if (pris.add(slugSouhaite)) return slugSouhaite;
+
+        // add() est atomique : deux créations simultanées du même nom obtiennent deux suffixes différents
+        for (int suffixe = 2; ; suffixe++) {
+            String candidat = slugSouhaite + "-" + suffixe;
+            if (pris.add(candidat)) return candidat;
+        }
+    }
+
+    @Override
+    public void liberer(String slug) {
+        if (slug != null) charger().remove(slug);
+    }
+
+    @Override
+    public void recharger() {
+        // Ajout sans remplacement : les réservations en cours dans cette instance restent valables
+        Set<String> pris = charger();
+        List<String> enBase = jpaRepository.findAllSlugs();
+        pris.addAll(enBase);
+        log.info("Index des slugs rechargé : {} formations en base", enBase.size());
+    }
+
+    private Set<String> charger() {
+        Set<String> courant = slugs;
+        if (courant != null) return courant;
+        // Verrou explicite : le chargement interroge la base, à ne pas faire sous synchronized (threads virtuels)
+        verrouChargement.lock();
+        try {
+            if (slugs == null) {
+                Set<String> index = ConcurrentHashMap.newKeySet();
+                index.addAll(jpaRepository.findAllSlugs());
+                log.info("Index des slugs chargé : {} formations", index.size());
+                slugs = index;
+            }
+            return slugs;
+        } finally {
+            verrouChargement.unlock();
+        }
+    }
+}
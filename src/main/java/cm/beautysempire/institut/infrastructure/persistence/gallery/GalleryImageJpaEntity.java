@@ -2,6 +2,7 @@ package cm.beautysempire.institut.infrastructure.persistence.gallery;
 
 
 
+import cm.beautysempire.institut.domain.gallery.StatutImage;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -26,7 +27,7 @@ public class GalleryImageJpaEntity {
     @Column(length = 500)
     private String description;
 
-    @Column(nullable = false)
+    // Nulle tant que l'envoi vers Cloudinary n'est pas terminé
     private String url;
 
     @Column(name = "cloudinary_public_id", length = 200)
@@ -41,6 +42,10 @@ public class GalleryImageJpaEntity {
     @Column(name = "formation_id")
     private Long formationId;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatutImage statut;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime dateCreation;
 }
\ No newline at end of file
@@ -1,10 +1,48 @@
 package cm.beautysempire.institut.infrastructure.persistence.gallery;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface GalleryImageJpaRepository extends JpaRepository<GalleryImageJpaEntity, Long> {
 
-    Page<GalleryImageJpaEntity> findByIsPublicTrue(Pageable pageable);
+    // Seules les images arrivées sur le stockage sont visibles sur le site.
+    // Statut en littéral (pas en paramètre) pour que PostgreSQL retienne l'index partiel de V13.
+    String PUBLIQUES = "g.isPublic = true AND g.statut = cm.beautysempire.institut.domain.gallery.StatutImage.DISPONIBLE";
+
+    @Query(value = "SELECT g FROM GalleryImageJpaEntity g WHERE " + PUBLIQUES,
+            countQuery = "SELECT count(g) FROM GalleryImageJpaEntity g WHERE " + PUBLIQUES)
+    Page<GalleryImageJpaEntity> findPubliques(Pageable pageable);
+
+    // Pagination par curseur sur l'index partiel (date_creation, id) WHERE is_public AND statut = 'DISPONIBLE'
+    @Query("SELECT g FROM GalleryImageJpaEntity g WHERE " + PUBLIQUES + " ORDER BY g.dateCreation DESC, g.id DESC")
+    List<GalleryImageJpaEntity> findPubliquesPremierePage(Limit limit);
+
+    @Query("SELECT g FROM GalleryImageJpaEntity g WHERE " + PUBLIQUES + " AND (g.dateCreation, g.id) < (:date, :id) " +
+            "ORDER BY g.dateCreation DESC, g.id DESC")
+    List<GalleryImageJpaEntity> findPubliquesApres(@Param("date") LocalDateTime date, @Param("id") Long id, Limit limit);
+
+    // Conditionné sur EN_ATTENTE : une image déjà passée en ECHEC par la purge ne redevient pas disponible
+    @Modifying
+    @Query("UPDATE GalleryImageJpaEntity g SET g.url = :url, g.cloudinaryPublicId = :publicId, " +
+            "g.statut = cm.beautysempire.institut.domain.gallery.StatutImage.DISPONIBLE " +
+            "WHERE g.id = :id AND g.statut = cm.beautysempire.institut.domain.gallery.StatutImage.EN_ATTENTE")
+    int marquerDisponible(@Param("id") Long id, @Param("url") String url, @Param("publicId") String publicId);
+
+    @Modifying
+    @Query("UPDATE GalleryImageJpaEntity g SET g.statut = cm.beautysempire.institut.domain.gallery.StatutImage.ECHEC " +
+            "WHERE g.id = :id AND g.statut = cm.beautysempire.institut.domain.gallery.StatutImage.EN_ATTENTE")
+    int marquerEchec(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE GalleryImageJpaEntity g SET g.statut = cm.beautysempire.institut.domain.gallery.StatutImage.ECHEC " +
+            "WHERE g.statut = cm.beautysempire.institut.domain.gallery.StatutImage.EN_ATTENTE AND g.dateCreation < :date")
+    int marquerEchecEnAttenteAvant(@Param("date") LocalDateTime date);
 }
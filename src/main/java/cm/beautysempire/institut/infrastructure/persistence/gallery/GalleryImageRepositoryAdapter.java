@@ -2,12 +2,18 @@ package cm.beautysempire.institut.infrastructure.persistence.gallery;
 
 import cm.beautysempire.institut.domain.gallery.GalleryImage;
 import cm.beautysempire.institut.domain.gallery.GalleryImageRepositoryPort;
+import cm.beautysempire.institut.domain.shared.Curseur;
+import cm.beautysempire.institut.infrastructure.persistence.shared.Tranches;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository // 🔥 C'est cette annotation qui dit à Spring "Je suis le Bean que tu cherches !"
@@ -38,11 +44,42 @@ public class GalleryImageRepositoryAdapter implements GalleryImageRepositoryPort
 
     @Override
     public Page<GalleryImage> findAllPublic(Pageable pageable) {
-        return jpaRepository.findByIsPublicTrue(pageable).map(mapper::toDomain);
+        return jpaRepository.findPubliques(pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Slice<GalleryImage> findPublicApres(Curseur apres, int taille) {
+        List<GalleryImageJpaEntity> lignes = apres == null
+                ? jpaRepository.findPubliquesPremierePage(Tranches.limite(taille))
+                : jpaRepository.findPubliquesApres(apres.date(), apres.id(), Tranches.limite(taille));
+        return Tranches.decouper(lignes, taille, mapper::toDomain);
     }
 
     @Override
     public Page<GalleryImage> findAll(Pageable pageable) {
         return jpaRepository.findAll(pageable).map(mapper::toDomain);
     }
+
+    @Override
+    public List<GalleryImage> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean marquerDisponible(Long id, String url, String publicId) {
+        return jpaRepository.marquerDisponible(id, url, publicId) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void marquerEchec(Long id) {
+        jpaRepository.marquerEchec(id);
+    }
+
+    @Override
+    @Transactional
+    public int marquerEchecEnAttenteAvant(LocalDateTime date) {
+        return jpaRepository.marquerEchecEnAttenteAvant(date);
+    }
 }
\ No newline at end of file
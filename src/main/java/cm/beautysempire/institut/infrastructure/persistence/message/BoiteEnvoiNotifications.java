@@ -0,0 +1,120 @@
+package cm.beautysempire.institut.infrastructure.persistence.message;
+
+import cm.beautysempire.institut.domain.messages.CanalNotification;
+import cm.beautysempire.institut.domain.messages.Message;
+import cm.beautysempire.institut.domain.messages.TypeMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+// Boîte d'envoi des notifications (table notifications_sortantes, Flyway V15).
+// Les lignes naissent avec les messages, dans la transaction de MessageBatchWriter : un message en base
+// a toujours ses notifications, un message rejeté par ON CONFLICT n'en crée pas de nouvelles.
+@Component
+@RequiredArgsConstructor
+public class BoiteEnvoiNotifications {
+
+    // L'email de confirmation n'a de sens que si le visiteur en a laissé un
+    private static final String SQL_CREATION = """
+            INSERT INTO notifications_sortantes (message_id, message_date_creation, canal)
+            SELECT m.id, m.date_creation, c.canal
+            FROM messages m
+            JOIN (VALUES ('WHATSAPP_ADMIN'), ('EMAIL_CONFIRMATION')) AS c (canal)
+              ON c.canal = 'WHATSAPP_ADMIN' OR coalesce(m.email, '') <> ''
+            WHERE m.reference = ANY (?)
+            ON CONFLICT (message_id, canal) DO NOTHING
+            """;
+
+    // Réclamation d'un lot : SKIP LOCKED laisse à une autre instance les lignes déjà prises, et
+    // prochain_essai repoussé de la durée du bail les rend invisibles une fois la transaction validée.
+    // Si l'instance tombe pendant l'envoi, la notification redevient éligible à la fin du bail.
+    private static final String SQL_RECLAMATION = """
+            UPDATE notifications_sortantes n
+            SET tentatives = n.tentatives + 1,
+                prochain_essai = now() + make_interval(secs => ?)
+            FROM messages m
+            WHERE m.id = n.message_id AND m.date_creation = n.message_date_creation
+              AND n.id IN (SELECT id FROM notifications_sortantes
+                           WHERE statut = 'EN_ATTENTE' AND prochain_essai <= now()
+                           ORDER BY prochain_essai
+                           LIMIT ?
+                           FOR UPDATE SKIP LOCKED)
+            RETURNING n.id, n.canal, n.tentatives, m.id, m.reference, m.type, m.nom, m.email, m.telephone,
+                      m.ville, m.sujet, m.message, m.formation_id, m.formation_nom_snapshot
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Doit rejoindre la transaction d'insertion des messages
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void creerPour(List<String> references) {
+        jdbcTemplate.update(SQL_CREATION, ps ->
+                ps.setArray(1, ps.getConnection().createArrayOf("varchar", references.toArray())));
+    }
+
+    @Transactional
+    public List<NotificationAEnvoyer> reclamer(int taille, Duration bail) {
+        return jdbcTemplate.query(SQL_RECLAMATION, (rs, i) -> new NotificationAEnvoyer(
+                rs.getLong(1),
+                CanalNotification.valueOf(rs.getString(2)),
+                rs.getInt(3),
+                Message.builder()
+                        .id(rs.getLong(4))
+                        .reference(rs.getString(5))
+                        .type(TypeMessage.valueOf(rs.getString(6)))
+                        .nom(rs.getString(7))
+                        .email(rs.getString(8))
+                        .telephone(rs.getString(9))
+                        .ville(rs.getString(10))
+                        .sujet(rs.getString(11))
+                        .message(rs.getString(12))
+                        .formationId(rs.getObject(13, Long.class))
+                        .formationNom(rs.getString(14))
+                        .build()
+        ), bail.toSeconds(), taille);
+    }
+
+    // La notification et le drapeau du message changent ensemble
+    @Transactional
+    public void marquerEnvoyee(NotificationAEnvoyer notification) {
+        jdbcTemplate.update("UPDATE notifications_sortantes SET statut = 'ENVOYEE', envoyee_le = now(), " +
+                "derniere_erreur = NULL WHERE id = ?", notification.id());
+        String drapeau = switch (notification.canal()) {
+            case WHATSAPP_ADMIN -> "whatsapp_notification_envoye = true, date_whatsapp_notification = now()";
+            case EMAIL_CONFIRMATION -> "email_confirmation_envoye = true, date_email_confirmation = now()";
+        };
+        jdbcTemplate.update("UPDATE messages SET " + drapeau + " WHERE id = ?", notification.message().getId());
+    }
+
+    @Transactional
+    public void reporter(long id, String erreur, Duration attente) {
+        jdbcTemplate.update("UPDATE notifications_sortantes SET prochain_essai = now() + make_interval(secs => ?), " +
+                "derniere_erreur = ? WHERE id = ?", attente.toSeconds(), tronquer(erreur), id);
+    }
+
+    @Transactional
+    public void abandonner(long id, String erreur) {
+        jdbcTemplate.update("UPDATE notifications_sortantes SET statut = 'ABANDONNEE', derniere_erreur = ? WHERE id = ?",
+                tronquer(erreur), id);
+    }
+
+    public long compterEnAttente() {
+        Long nombre = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM notifications_sortantes WHERE statut = 'EN_ATTENTE'", Long.class);
+        return nombre == null ? 0 : nombre;
+    }
+
+    private static String tronquer(String erreur) {
+        if (erreur == null) return null;
+        return erreur.length() <= 500 ? erreur : erreur.substring(0, 500);
+    }
+
+    // tentatives : nombre d'essais, celui en cours compris
+    public record NotificationAEnvoyer(long id, CanalNotification canal, int tentatives, Message message) {
+    }
+}
@@ -0,0 +1,60 @@
+package cm.beautysempire.institut.infrastructure.persistence.message;
+
+import cm.beautysempire.institut.domain.messages.ResultatChangementStatut;
+import cm.beautysempire.institut.domain.messages.ResultatChangementStatut.Issue;
+import cm.beautysempire.institut.domain.messages.StatutMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Changement de statut d'un ensemble de messages en une seule instruction SQL.
+// Les lignes ciblées sont verrouillées (FOR UPDATE relit le statut courant si une autre transaction
+// vient de le modifier), seules celles dont le statut autorise la transition sont mises à jour, et
+// chaque message trouvé revient avec son statut d'avant : ni lecture préalable, ni save() par message.
+@Component
+@RequiredArgsConstructor
+class ChangementStatutEnLot {
+
+    // Mêmes effets que Message.marquerCommeLu / marquerCommeTraite / marquerCommeArchive :
+    // date_lecture et date_traitement ne sont écrites que pour LU et TRAITE (paramètre null sinon)
+    private static final String SQL_CHANGEMENT = """
+            WITH cibles AS (
+                SELECT id, statut FROM messages WHERE id = ANY (?) FOR UPDATE
+            ), modifies AS (
+                UPDATE messages m
+                SET statut = ?,
+                    traite_par_admin = ?,
+                    date_lecture = coalesce(?, m.date_lecture),
+                    date_traitement = coalesce(?, m.date_traitement)
+                FROM cibles c
+                WHERE m.id = c.id AND c.statut = ANY (?)
+                RETURNING m.id
+            )
+            SELECT c.id, c.statut, modifies.id IS NOT NULL AS modifie
+            FROM cibles c LEFT JOIN modifies ON modifies.id = c.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Un résultat par message existant ; les ids absents de la table n'apparaissent pas
+    List<ResultatChangementStatut> appliquer(Collection<Long> ids, StatutMessage nouveauStatut,
+                                             String admin, LocalDateTime maintenant) {
+        Timestamp horodatage = Timestamp.valueOf(maintenant);
+        String[] precedents = nouveauStatut.statutsPrecedents().stream().map(Enum::name).toArray(String[]::new);
+        return jdbcTemplate.query(SQL_CHANGEMENT, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+            ps.setString(2, nouveauStatut.name());
+            ps.setString(3, admin);
+            ps.setTimestamp(4, nouveauStatut == StatutMessage.LU ? horodatage : null);
+            ps.setTimestamp(5, nouveauStatut == StatutMessage.TRAITE ? horodatage : null);
+            ps.setArray(6, ps.getConnection().createArrayOf("varchar", precedents));
+        }, (rs, i) -> new ResultatChangementStatut(rs.getLong(1),
+                rs.getBoolean(3) ? Issue.MODIFIE : Issue.TRANSITION_REFUSEE,
+                StatutMessage.valueOf(rs.getString(2))));
+    }
+}
@@ -0,0 +1,105 @@
+package cm.beautysempire.institut.infrastructure.persistence.message;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Partitions mensuelles de la table messages et passage des messages archivés vers la table froide (Flyway V17).
+// Les noms de partition (messages_AAAA_MM) sont lus dans le catalogue et filtrés par motif avant d'être
+// concaténés dans le SQL.
+@Component
+@RequiredArgsConstructor
+public class CycleVieMessages {
+
+    private static final DateTimeFormatter FORMAT_PARTITION = DateTimeFormatter.ofPattern("'messages_'yyyy_MM");
+
+    private static final String SQL_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'messages'::regclass
+              AND c.relname ~ '^messages_[0-9]{4}_[0-9]{2}$'
+            ORDER BY c.relname
+            """;
+
+    // Un lot = une instruction : les lignes quittent messages et arrivent dans messages_archives ensemble.
+    // Les plus anciennes d'abord (index statut, date_creation) ; SKIP LOCKED ignore un message en cours
+    // de modification par l'admin. Les notifications du message partent avec lui (ON DELETE CASCADE).
+    private static final String SQL_ARCHIVAGE = """
+            WITH lot AS (
+                DELETE FROM messages m
+                USING (SELECT id, date_creation FROM messages
+                       WHERE statut = 'ARCHIVE' AND date_creation < ?
+                       ORDER BY date_creation
+                       LIMIT ?
+                       FOR UPDATE SKIP LOCKED) a
+                WHERE m.id = a.id AND m.date_creation = a.date_creation
+                RETURNING m.*
+            )
+            INSERT INTO messages_archives (id, reference, type, statut, nom, email, telephone, ville, quartier, sujet,
+                                           message, formation_id, formation_nom_snapshot, disponibilites,
+                                           date_creation, date_lecture, date_traitement, traite_par_admin, source_visite)
+            SELECT id, reference, type, statut, nom, email, telephone, ville, quartier, sujet,
+                   message, formation_id, formation_nom_snapshot, disponibilites,
+                   date_creation, date_lecture, date_traitement, traite_par_admin, source_visite
+            FROM lot
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Mois courant et moisAvance mois suivants ; renvoie le nombre de partitions créées
+    public int creerPartitionsAVenir(int moisAvance) {
+        YearMonth courant = YearMonth.now();
+        int creees = 0;
+        for (int i = 0; i <= moisAvance; i++) {
+            Boolean creee = jdbcTemplate.queryForObject("SELECT creer_partition_messages(?)", Boolean.class,
+                    Date.valueOf(courant.plusMonths(i).atDay(1)));
+            if (Boolean.TRUE.equals(creee)) creees++;
+        }
+        return creees;
+    }
+
+    // Lignes tombées dans la partition par défaut : la partition de leur mois n'existait pas encore
+    public long compterHorsPartitions() {
+        Long nombre = jdbcTemplate.queryForObject("SELECT count(*) FROM messages_defaut", Long.class);
+        return nombre == null ? 0 : nombre;
+    }
+
+    public int archiverLot(LocalDateTime avant, int taille) {
+        return jdbcTemplate.update(SQL_ARCHIVAGE, Timestamp.valueOf(avant), taille);
+    }
+
+    // Partitions dont tout le mois précède "mois"
+    public List<String> partitionsAnterieuresA(YearMonth mois) {
+        String limite = FORMAT_PARTITION.format(mois);
+        return jdbcTemplate.queryForList(SQL_PARTITIONS, String.class).stream()
+                .filter(nom -> nom.compareTo(limite) < 0)
+                .toList();
+    }
+
+    // Détache puis supprime la partition si elle est vide. DETACH verrouille toute la table messages :
+    // on abandonne au bout de quelques secondes plutôt que de faire attendre les requêtes derrière soi.
+    @Transactional
+    public boolean supprimerPartitionSiVide(String nom) {
+        if (!nom.matches("messages_\\d{4}_\\d{2}")) {
+            throw new IllegalArgumentException("Partition de messages inconnue : " + nom);
+        }
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+        jdbcTemplate.execute("LOCK TABLE " + nom + " IN ACCESS EXCLUSIVE MODE");
+        Boolean vide = jdbcTemplate.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM " + nom + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(vide)) return false;
+
+        jdbcTemplate.execute("ALTER TABLE messages DETACH PARTITION " + nom);
+        jdbcTemplate.execute("DROP TABLE " + nom);
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package cm.beautysempire.institut.infrastructure.persistence.message;
+
+import cm.beautysempire.institut.domain.messages.Message;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+// Insertion des messages reçus par lots JDBC (un aller-retour pour tout le lot).
+// ON CONFLICT sur (référence, date de réception) : réécrire un message déjà en base (rejeu du journal) ne fait rien.
+// La date fait partie de la clé parce que la table est partitionnée par mois (Flyway V17).
+// Les notifications à envoyer sont créées dans la même transaction (boîte d'envoi).
+@Component
+@RequiredArgsConstructor
+public class MessageBatchWriter {
+
+    private static final String SQL_INSERTION = """
+            INSERT INTO messages (reference, type, statut, nom, email, telephone, ville, quartier, sujet, message,
+                                  disponibilites, formation_id, formation_nom_snapshot, date_creation,
+                                  source_visite, adresse_ip, user_agent,
+                                  email_confirmation_envoye, whatsapp_notification_envoye)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (reference, date_creation) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoiteEnvoiNotifications boiteEnvoi;
+
+    @Transactional
+    public void inserer(List<Message> messages) {
+        jdbcTemplate.batchUpdate(SQL_INSERTION, messages, messages.size(), (ps, m) -> {
+            ps.setString(1, m.getReference());
+            ps.setString(2, m.getType().name());
+            ps.setString(3, m.getStatut().name());
+            ps.setString(4, m.getNom());
+            ps.setString(5, m.getEmail());
+            ps.setString(6, m.getTelephone());
+            ps.setString(7, m.getVille());
+            ps.setString(8, m.getQuartier());
+            ps.setString(9, m.getSujet());
+            // La colonne est NOT NULL mais le message est facultatif pour une pré-inscription
+            ps.setString(10, m.getMessage() != null ? m.getMessage() : "");
+            ps.setString(11, m.getDisponibilites());
+            if (m.getFormationId() != null) {
+                ps.setLong(12, m.getFormationId());
+            } else {
+                ps.setNull(12, Types.BIGINT);
+            }
+            ps.setString(13, m.getFormationNom());
+            ps.setTimestamp(14, Timestamp.valueOf(m.getDateCreation()));
+            ps.setString(15, m.getSourceVisite());
+            ps.setString(16, m.getAdresseIp());
+            ps.setString(17, m.getUserAgent());
+            ps.setBoolean(18, Boolean.TRUE.equals(m.getEmailConfirmationEnvoye()));
+            ps.setBoolean(19, Boolean.TRUE.equals(m.getWhatsappNotificationEnvoye()));
+        });
+        boiteEnvoi.creerPour(messages.stream().map(Message::getReference).toList());
+    }
+}
@@ -20,6 +20,9 @@ public class MessageJpaEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(length = 36, unique = true, updatable = false)
+    private String reference;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private TypeMessage type;
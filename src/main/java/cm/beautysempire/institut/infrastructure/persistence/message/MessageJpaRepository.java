@@ -2,10 +2,11 @@ package cm.beautysempire.institut.infrastructure.persistence.message;
 
 import cm.beautysempire.institut.domain.messages.Message;
 import cm.beautysempire.institut.domain.messages.StatutMessage;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface MessageJpaRepository extends JpaRepository<MessageJpaEntity, Long> {
+// Listes de la boîte de réception : Specifications (MessageSpecifications), filtres combinables
+public interface MessageJpaRepository extends JpaRepository<MessageJpaEntity, Long>,
+        JpaSpecificationExecutor<MessageJpaEntity> {
     long countByStatut(StatutMessage statut);
 }
\ No newline at end of file
@@ -1,23 +1,35 @@
 package cm.beautysempire.institut.infrastructure.persistence.message;
 
+import cm.beautysempire.institut.domain.messages.FiltreMessages;
 import cm.beautysempire.institut.domain.messages.Message;
 import cm.beautysempire.institut.domain.messages.MessageRepositoryPort;
+import cm.beautysempire.institut.domain.messages.ResultatChangementStatut;
 import cm.beautysempire.institut.domain.messages.StatutMessage;
+import cm.beautysempire.institut.domain.shared.Curseur;
+import cm.beautysempire.institut.infrastructure.persistence.shared.Tranches;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class MessageRepositoryAdapter implements MessageRepositoryPort {
 
+    // Ordre des listes par curseur, identique aux index (..., date_creation DESC, id DESC)
+    private static final Sort ORDRE_BOITE = Sort.by(Sort.Direction.DESC, "dateCreation", "id");
+
     private final MessageJpaRepository jpaRepository;
     private final MessagePersistenceMapper mapper;
+    private final ChangementStatutEnLot changementStatutEnLot;
 
     @Override
     public Message save(Message message) {
@@ -32,11 +44,24 @@ public class MessageRepositoryAdapter implements MessageRepositoryPort {
     }
 
     @Override
-    public Page<Message> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable)
+    public Page<Message> findAll(FiltreMessages filtre, Pageable pageable) {
+        return jpaRepository.findAll(MessageSpecifications.filtre(filtre), pageable)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Slice<Message> findApres(FiltreMessages filtre, Curseur apres, int taille) {
+        Specification<MessageJpaEntity> specification = MessageSpecifications.filtre(filtre);
+        if (apres != null) {
+            specification = specification.and(MessageSpecifications.apres(apres));
+        }
+        List<MessageJpaEntity> lignes = jpaRepository.findBy(specification, requete -> requete
+                .sortBy(ORDRE_BOITE)
+                .limit(Tranches.limite(taille).max())
+                .all());
+        return Tranches.decouper(lignes, taille, mapper::toDomain);
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -46,4 +71,10 @@ public class MessageRepositoryAdapter implements MessageRepositoryPort {
     public long countByStatut(StatutMessage statut) {
         return jpaRepository.countByStatut(statut);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<ResultatChangementStatut> changerStatutEnLot(Collection<Long> ids, StatutMessage nouveauStatut,
+                                                             String admin, LocalDateTime maintenant) {
+        return changementStatutEnLot.appliquer(ids, nouveauStatut, admin, maintenant);
+    }
+}
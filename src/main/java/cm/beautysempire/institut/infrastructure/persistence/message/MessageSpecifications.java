@@ -0,0 +1,66 @@
+package cm.beautysempire.institut.infrastructure.persistence.message;
+
+import cm.beautysempire.institut.domain.messages.FiltreMessages;
+import cm.beautysempire.institut.domain.shared.Curseur;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Filtres de la boîte de réception, traduits en prédicats "sargables" : chaque critère d'égalité
+// correspond au premier champ d'un index (statut|type|formation_id, date_creation DESC, id DESC) de
+// Flyway V16, et le texte utilise les index trigrammes sur lower(nom) et telephone.
+final class MessageSpecifications {
+
+    private static final char ECHAPPEMENT = '\\';
+
+    private MessageSpecifications() {
+    }
+
+    static Specification<MessageJpaEntity> filtre(FiltreMessages filtre) {
+        return (root, query, cb) -> {
+            List<Predicate> predicats = new ArrayList<>();
+            if (filtre.statut() != null) {
+                predicats.add(cb.equal(root.get("statut"), filtre.statut()));
+            }
+            if (filtre.type() != null) {
+                predicats.add(cb.equal(root.get("type"), filtre.type()));
+            }
+            if (filtre.formationId() != null) {
+                predicats.add(cb.equal(root.get("formationId"), filtre.formationId()));
+            }
+            if (filtre.depuis() != null) {
+                predicats.add(cb.greaterThanOrEqualTo(root.get("dateCreation"), filtre.depuis()));
+            }
+            if (filtre.avant() != null) {
+                predicats.add(cb.lessThan(root.get("dateCreation"), filtre.avant()));
+            }
+            if (filtre.texte() != null) {
+                List<Predicate> texte = new ArrayList<>();
+                texte.add(cb.like(cb.lower(root.get("nom")), contient(filtre.texte().toLowerCase()), ECHAPPEMENT));
+                // Numéro saisi avec espaces ou tirets : on ne garde que les chiffres
+                String chiffres = filtre.texte().replaceAll("[^0-9]", "");
+                if (!chiffres.isEmpty()) {
+                    texte.add(cb.like(root.get("telephone"), contient(chiffres), ECHAPPEMENT));
+                }
+                predicats.add(cb.or(texte.toArray(Predicate[]::new)));
+            }
+            return cb.and(predicats.toArray(Predicate[]::new));
+        };
+    }
+
+    // Même position que le (date_creation, id) < (:date, :id) des autres listes par curseur, écrit avec
+    // une borne date_creation <= :date que l'index peut utiliser comme début de parcours
+    static Specification<MessageJpaEntity> apres(Curseur curseur) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("dateCreation"), curseur.date()),
+                cb.or(cb.lessThan(root.get("dateCreation"), curseur.date()),
+                        cb.lessThan(root.get("id"), curseur.id())));
+    }
+
+    private static String contient(String texte) {
+        String echappe = texte.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + echappe + "%";
+    }
+}
@@ -19,6 +19,7 @@ public class NewsletterJpaEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(nullable = false, unique = true, length = 20)
     private String telephone;
     private String email;
     private LocalDateTime dateInscription;
@@ -1,8 +1,20 @@
 package cm.beautysempire.institut.infrastructure.persistence.newsletter;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface NewsletterJpaRepository extends JpaRepository<NewsletterJpaEntity, Long> {
 
-    boolean existsByTelephone(String telephone);
+    // Pagination par curseur sur l'index (date_inscription, id) (Flyway V9)
+    @Query("SELECT n FROM NewsletterJpaEntity n ORDER BY n.dateInscription DESC, n.id DESC")
+    List<NewsletterJpaEntity> findPremierePage(Limit limit);
+
+    @Query("SELECT n FROM NewsletterJpaEntity n WHERE (n.dateInscription, n.id) < (:date, :id) " +
+            "ORDER BY n.dateInscription DESC, n.id DESC")
+    List<NewsletterJpaEntity> findApres(@Param("date") LocalDateTime date, @Param("id") Long id, Limit limit);
 }
@@ -2,19 +2,34 @@ package cm.beautysempire.institut.infrastructure.persistence.newsletter;
 
 import cm.beautysempire.institut.domain.newsletter.NewsletterRepositoryPort;
 import cm.beautysempire.institut.domain.newsletter.NewsletterSubscription;
+import cm.beautysempire.institut.domain.shared.Curseur;
+import cm.beautysempire.institut.infrastructure.persistence.shared.Tranches;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class NewsletterRepositoryAdapter implements NewsletterRepositoryPort {
 
+    // Un numéro déjà inscrit ne renvoie aucune ligne, sans erreur ni transaction annulée
+    private static final String SQL_INSCRIPTION = """
+            INSERT INTO newsletter_subscriptions (telephone, email, date_inscription, contacte)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (telephone) DO NOTHING
+            RETURNING id
+            """;
+
     private final NewsletterJpaRepository jpaRepository;
     private final NewsletterPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public NewsletterSubscription save(NewsletterSubscription newsletterSubscription){
@@ -27,6 +42,15 @@ public class NewsletterRepositoryAdapter implements NewsletterRepositoryPort {
     public Page<NewsletterSubscription> findAll(Pageable pageable){
         return jpaRepository.findAll(pageable).map(mapper::toDomain);
     }
+
+    @Override
+    public Slice<NewsletterSubscription> findApres(Curseur apres, int taille) {
+        List<NewsletterJpaEntity> lignes = apres == null
+                ? jpaRepository.findPremierePage(Tranches.limite(taille))
+                : jpaRepository.findApres(apres.date(), apres.id(), Tranches.limite(taille));
+        return Tranches.decouper(lignes, taille, mapper::toDomain);
+    }
+
     @Override
     public Optional<NewsletterSubscription> findById(Long id){
         return  jpaRepository.findById(id).map(mapper::toDomain);
@@ -38,7 +62,14 @@ public class NewsletterRepositoryAdapter implements NewsletterRepositoryPort {
     }
 
     @Override
-    public boolean existsByTelephone(String telephone){
-        return jpaRepository.existsByTelephone(telephone);
+    public Optional<NewsletterSubscription> inscrireSiNouveau(NewsletterSubscription subscription) {
+        List<Long> ids = jdbcTemplate.queryForList(SQL_INSCRIPTION, Long.class,
+                subscription.getTelephone(),
+                subscription.getEmail(),
+                Timestamp.valueOf(subscription.getDateInscription()),
+                Boolean.TRUE.equals(subscription.getContacte()));
+        if (ids.isEmpty()) return Optional.empty();
+        subscription.setId(ids.get(0));
+        return Optional.of(subscription);
     }
 }
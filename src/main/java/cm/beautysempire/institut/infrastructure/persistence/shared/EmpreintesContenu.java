@@ -0,0 +1,80 @@
+package cm.beautysempire.institut.infrastructure.persistence.shared;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// Empreintes des contenus publics, servant d'ETag : une requête d'agrégat sur (id, version),
+// sans charger les lignes ni leurs textes. Toute insertion, suppression ou modification
+// (version incrémentée par JPA ou par trigger, Flyway V3 / V14) change l'empreinte.
+@Component
+@RequiredArgsConstructor
+public class EmpreintesContenu {
+
+    // Une promo qui démarre ou se termine change le prix affiché sans toucher à la ligne :
+    // l'état de la promo à l'instant de la requête fait donc partie de l'empreinte
+    private static final String PROMO_ACTIVE =
+            "coalesce(en_promotion AND (date_debut_promo IS NULL OR date_debut_promo < ?) " +
+            "AND (date_fin_promo IS NULL OR date_fin_promo > ?), false)";
+
+    private static final String SQL_CATALOGUE =
+            "SELECT md5(coalesce(string_agg(id || ':' || version || ':' || " + PROMO_ACTIVE + ", ',' ORDER BY id), '')) " +
+            "FROM formations WHERE active";
+
+    private static final String SQL_FORMATION_PAR_ID =
+            "SELECT id || '-' || version || '-' || " + PROMO_ACTIVE + " FROM formations WHERE id = ?";
+
+    private static final String SQL_FORMATION_PAR_SLUG =
+            "SELECT id, id || '-' || version || '-' || " + PROMO_ACTIVE + " FROM formations WHERE slug = ?";
+
+    // Même filtre que GalleryImageJpaRepository.PUBLIQUES (index partiel de Flyway V13)
+    private static final String SQL_GALERIE =
+            "SELECT md5(coalesce(string_agg(id || ':' || version, ',' ORDER BY id), '')) " +
+            "FROM gallery_images WHERE is_public = true AND statut = 'DISPONIBLE'";
+
+    private static final String SQL_TEMOIGNAGES =
+            "SELECT md5(coalesce(string_agg(id || ':' || version, ',' ORDER BY id), '')) " +
+            "FROM testimonials WHERE publie = true";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public String catalogue() {
+        Timestamp maintenant = maintenant();
+        return jdbcTemplate.queryForObject(SQL_CATALOGUE, String.class, maintenant, maintenant);
+    }
+
+    public Optional<String> formation(long id) {
+        Timestamp maintenant = maintenant();
+        return jdbcTemplate.queryForList(SQL_FORMATION_PAR_ID, String.class, maintenant, maintenant, id)
+                .stream().findFirst();
+    }
+
+    // L'id est renvoyé avec l'empreinte : un 304 sur la page détail compte quand même la vue
+    public Optional<EmpreinteFormation> formationParSlug(String slug) {
+        Timestamp maintenant = maintenant();
+        List<EmpreinteFormation> lignes = jdbcTemplate.query(SQL_FORMATION_PAR_SLUG,
+                (rs, i) -> new EmpreinteFormation(rs.getLong(1), rs.getString(2)), maintenant, maintenant, slug);
+        return lignes.stream().findFirst();
+    }
+
+    public String galerie() {
+        return jdbcTemplate.queryForObject(SQL_GALERIE, String.class);
+    }
+
+    public String temoignages() {
+        return jdbcTemplate.queryForObject(SQL_TEMOIGNAGES, String.class);
+    }
+
+    // Même horloge que Formation.isPromoActive (heure locale de la JVM, pas celle de la session SQL)
+    private static Timestamp maintenant() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+
+    public record EmpreinteFormation(long id, String empreinte) {
+    }
+}
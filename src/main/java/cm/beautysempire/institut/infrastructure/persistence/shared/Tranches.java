@@ -0,0 +1,30 @@
+package cm.beautysempire.institut.infrastructure.persistence.shared;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Outils pour la pagination par curseur : on lit une ligne de plus que demandé
+// pour savoir s'il reste une page, sans jamais lancer de count(*)
+public final class Tranches {
+
+    private Tranches() {
+    }
+
+    public static Limit limite(int taille) {
+        return Limit.of(taille + 1);
+    }
+
+    public static <E, D> Slice<D> decouper(List<E> lignes, int taille, Function<E, D> mapper) {
+        boolean suivante = lignes.size() > taille;
+        List<D> contenu = lignes.stream()
+                .limit(taille)
+                .map(mapper)
+                .toList();
+        return new SliceImpl<>(contenu, PageRequest.ofSize(taille), suivante);
+    }
+}
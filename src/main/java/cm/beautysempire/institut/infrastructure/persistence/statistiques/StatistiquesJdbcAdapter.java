@@ -0,0 +1,83 @@
+package cm.beautysempire.institut.infrastructure.persistence.statistiques;
+
+import cm.beautysempire.institut.domain.messages.StatutMessage;
+import cm.beautysempire.institut.domain.messages.TypeMessage;
+import cm.beautysempire.institut.domain.statistiques.ApercuStatistiques;
+import cm.beautysempire.institut.domain.statistiques.StatistiquesRepositoryPort;
+import cm.beautysempire.institut.domain.statistiques.TendanceJour;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+// Agrégats en SQL direct : rien à charger en entités, une requête par écran
+@Repository
+@RequiredArgsConstructor
+public class StatistiquesJdbcAdapter implements StatistiquesRepositoryPort {
+
+    private static final String SQL_APERCU = """
+            SELECT (SELECT count(*) FROM messages WHERE statut = ?) AS messages_non_lus,
+                   (SELECT count(*) FROM formations WHERE active = TRUE) AS formations_actives,
+                   (SELECT count(*) FROM newsletter_subscriptions) AS abonnes_newsletter,
+                   (SELECT count(*) FROM testimonials) AS total_temoignages
+            """;
+
+    // Les messages sont bornés par plage sur date_creation (seules les partitions du mois sont lues, V17),
+    // y compris ceux déjà passés dans messages_archives ; les vues viennent de l'agrégat journalier
+    // alimenté par le compteur de vues (V10)
+    private static final String SQL_TENDANCES = """
+            SELECT j.jour::date AS jour,
+                   COALESCE(m.messages, 0) AS messages,
+                   COALESCE(m.pre_inscriptions, 0) AS pre_inscriptions,
+                   COALESCE(v.vues, 0) AS vues
+            FROM generate_series(?::date, ?::date, interval '1 day') AS j(jour)
+            LEFT JOIN (SELECT date_creation::date AS jour,
+                              count(*) AS messages,
+                              count(*) FILTER (WHERE type = ?) AS pre_inscriptions
+                       FROM (SELECT date_creation, type FROM messages
+                             WHERE date_creation >= ? AND date_creation < ?
+                             UNION ALL
+                             SELECT date_creation, type FROM messages_archives
+                             WHERE date_creation >= ? AND date_creation < ?) tous
+                       GROUP BY 1) m ON m.jour = j.jour
+            LEFT JOIN (SELECT jour, sum(vues) AS vues
+                       FROM formation_vues_quotidiennes
+                       WHERE jour BETWEEN ? AND ?
+                       GROUP BY jour) v ON v.jour = j.jour
+            ORDER BY j.jour
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ApercuStatistiques calculerApercu() {
+        return jdbcTemplate.queryForObject(SQL_APERCU, (rs, i) -> new ApercuStatistiques(
+                rs.getLong("messages_non_lus"),
+                rs.getLong("formations_actives"),
+                rs.getLong("abonnes_newsletter"),
+                rs.getLong("total_temoignages")
+        ), StatutMessage.NON_LU.name());
+    }
+
+    @Override
+    public List<TendanceJour> calculerTendances(LocalDate debut, LocalDate fin) {
+        Date jourDebut = Date.valueOf(debut);
+        Date jourFin = Date.valueOf(fin);
+        Timestamp depuis = Timestamp.valueOf(debut.atStartOfDay());
+        Timestamp avant = Timestamp.valueOf(fin.plusDays(1).atStartOfDay());
+        return jdbcTemplate.query(SQL_TENDANCES, (rs, i) -> new TendanceJour(
+                        rs.getDate("jour").toLocalDate(),
+                        rs.getLong("messages"),
+                        rs.getLong("pre_inscriptions"),
+                        rs.getLong("vues")),
+                jourDebut, jourFin,
+                TypeMessage.PRE_INSCRIPTION.name(),
+                depuis, avant,
+                depuis, avant,
+                jourDebut, jourFin);
+    }
+}
@@ -1,10 +1,31 @@
 // infrastructure/persistence/testimonial/TestimonialJpaRepository.java
 package cm.beautysempire.institut.infrastructure.persistence.testimonial;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface TestimonialJpaRepository extends JpaRepository<TestimonialJpaEntity, Long> {
     Page<TestimonialJpaEntity> findByPublieTrue(Pageable pageable);
+
+    // Pagination par curseur sur les index (date_creation, id) (Flyway V9)
+    @Query("SELECT t FROM TestimonialJpaEntity t ORDER BY t.dateCreation DESC, t.id DESC")
+    List<TestimonialJpaEntity> findPremierePage(Limit limit);
+
+    @Query("SELECT t FROM TestimonialJpaEntity t WHERE (t.dateCreation, t.id) < (:date, :id) " +
+            "ORDER BY t.dateCreation DESC, t.id DESC")
+    List<TestimonialJpaEntity> findApres(@Param("date") LocalDateTime date, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT t FROM TestimonialJpaEntity t WHERE t.publie = true ORDER BY t.dateCreation DESC, t.id DESC")
+    List<TestimonialJpaEntity> findPubliesPremierePage(Limit limit);
+
+    @Query("SELECT t FROM TestimonialJpaEntity t WHERE t.publie = true AND (t.dateCreation, t.id) < (:date, :id) " +
+            "ORDER BY t.dateCreation DESC, t.id DESC")
+    List<TestimonialJpaEntity> findPubliesApres(@Param("date") LocalDateTime date, @Param("id") Long id, Limit limit);
 }
\ No newline at end of file
@@ -2,10 +2,14 @@ package cm.beautysempire.institut.infrastructure.persistence.testimonial;
 
 import cm.beautysempire.institut.domain.testimonial.Testimonial;
 import cm.beautysempire.institut.domain.testimonial.TestimonialRepositoryPort;
+import cm.beautysempire.institut.domain.shared.Curseur;
+import cm.beautysempire.institut.infrastructure.persistence.shared.Tranches;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository @RequiredArgsConstructor
@@ -26,6 +30,18 @@ public class TestimonialRepositoryAdapter implements TestimonialRepositoryPort {
     @Override public Page<Testimonial> findByPublieTrue(Pageable p) {
         return jpaRepository.findByPublieTrue(p).map(mapper::toDomain);
     }
+    @Override public Slice<Testimonial> findApres(Curseur apres, int taille) {
+        List<TestimonialJpaEntity> lignes = apres == null
+                ? jpaRepository.findPremierePage(Tranches.limite(taille))
+                : jpaRepository.findApres(apres.date(), apres.id(), Tranches.limite(taille));
+        return Tranches.decouper(lignes, taille, mapper::toDomain);
+    }
+    @Override public Slice<Testimonial> findPubliesApres(Curseur apres, int taille) {
+        List<TestimonialJpaEntity> lignes = apres == null
+                ? jpaRepository.findPubliesPremierePage(Tranches.limite(taille))
+                : jpaRepository.findPubliesApres(apres.date(), apres.id(), Tranches.limite(taille));
+        return Tranches.decouper(lignes, taille, mapper::toDomain);
+    }
     @Override
     public long count() {
         return jpaRepository.count();
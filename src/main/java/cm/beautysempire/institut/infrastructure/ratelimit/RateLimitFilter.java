@@ -0,0 +1,57 @@
+package cm.beautysempire.institut.infrastructure.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Enregistré uniquement par FilterConfig, sur les seules routes protégées
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Les routes qu'on veut protéger contre le spam
+    public static final Set<String> ROUTES_PROTEGEES = Set.of(
+            "/api/messages/contact",
+            "/api/messages/pre-inscription",
+            "/api/newsletter/subscribe"
+    );
+
+    private final StockageSeaux stockage;
+    private final ResolveurAdresseClient resolveur;
+
+    public RateLimitFilter(StockageSeaux stockage, ResolveurAdresseClient resolveur) {
+        this.stockage = stockage;
+        this.resolveur = resolveur;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !ROUTES_PROTEGEES.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        ConsumptionProbe probe = stockage.consommer(resolveur.resoudre(request));
+
+        if (!probe.isConsumed()) {
+            // Si la limite est dépassée, on renvoie une erreur 429 (Too Many Requests)
+            long secondes = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill()));
+            long minutes = Math.max(1, (secondes + 59) / 60);
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(secondes));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"status\":\"ERROR\",\"statusCode\":429,\"message\":\"Trop de requêtes. Veuillez patienter "
+                    + minutes + " minute" + (minutes > 1 ? "s" : "") + " avant de réessayer.\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,62 @@
+package cm.beautysempire.institut.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
+
+// Retrouve l'adresse réelle du client derrière un ou plusieurs reverse proxies.
+// X-Forwarded-For n'est lu que si la connexion vient d'un proxy de confiance : sinon n'importe qui
+// pourrait changer d'adresse à chaque requête en envoyant l'en-tête lui-même.
+public class ResolveurAdresseClient {
+
+    private static final String EN_TETE = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> proxiesDeConfiance;
+
+    // Adresses ou plages CIDR (ex. 10.0.0.0/8) ; vide = pas de proxy, on garde l'adresse de la connexion
+    public ResolveurAdresseClient(List<String> proxiesDeConfiance) {
+        this.proxiesDeConfiance = proxiesDeConfiance.stream()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resoudre(HttpServletRequest request) {
+        String adresse = request.getRemoteAddr();
+        if (proxiesDeConfiance.isEmpty() || !estDeConfiance(adresse)) {
+            return adresse;
+        }
+
+        String enTete = request.getHeader(EN_TETE);
+        if (enTete == null || enTete.isBlank()) {
+            return adresse;
+        }
+
+        // On remonte la chaîne de droite à gauche : la première adresse qui n'est pas un de nos proxies
+        // est le client. Ce qui est plus à gauche a été écrit par le client et n'est pas fiable.
+        String[] sauts = enTete.split(",");
+        for (int i = sauts.length - 1; i >= 0; i--) {
+            String saut = sauts[i].trim();
+            if (saut.isEmpty()) continue;
+            adresse = saut;
+            if (!estDeConfiance(saut)) {
+                return saut;
+            }
+        }
+        return adresse;
+    }
+
+    private boolean estDeConfiance(String adresse) {
+        for (IpAddressMatcher proxy : proxiesDeConfiance) {
+            try {
+                if (proxy.matches(adresse)) return true;
+            } catch (IllegalArgumentException e) {
+                // Valeur d'en-tête qui n'est pas une adresse IP
+                return false;
+            }
+        }
+        return false;
+    }
+}
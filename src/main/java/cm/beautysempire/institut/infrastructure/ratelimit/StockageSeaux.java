@@ -0,0 +1,11 @@
+package cm.beautysempire.institut.infrastructure.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+
+// Où vivent les seaux de jetons du rate limiting.
+// En mémoire pour une instance seule ; en base dès que plusieurs réplicas doivent partager les mêmes limites.
+public interface StockageSeaux {
+
+    // Consomme un jeton pour ce client ; le probe indique aussi le temps d'attente avant le prochain jeton
+    ConsumptionProbe consommer(String cle);
+}
@@ -0,0 +1,31 @@
+package cm.beautysempire.institut.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+
+import java.time.Duration;
+
+// Seaux locaux à l'instance, bornés en nombre de clients.
+// Un seau inutilisé depuis une période complète est de toute façon plein : l'oublier ne change rien à la limite.
+public class StockageSeauxMemoire implements StockageSeaux {
+
+    private final Bandwidth limite;
+    private final Cache<String, Bucket> seaux;
+
+    public StockageSeauxMemoire(Bandwidth limite, Duration periode, long maxCles) {
+        this.limite = limite;
+        this.seaux = Caffeine.newBuilder()
+                .expireAfterAccess(periode)
+                .maximumSize(maxCles)
+                .build();
+    }
+
+    @Override
+    public ConsumptionProbe consommer(String cle) {
+        Bucket seau = seaux.get(cle, k -> Bucket.builder().addLimit(limite).build());
+        return seau.tryConsumeAndReturnRemaining(1);
+    }
+}
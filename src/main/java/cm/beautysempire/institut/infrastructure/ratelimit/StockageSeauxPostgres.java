@@ -0,0 +1,66 @@
+package cm.beautysempire.institut.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.postgresql.PostgreSQLSelectForUpdateBasedProxyManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Seaux partagés entre toutes les instances via la table rate_limit_seaux (V12).
+// Chaque consommation verrouille la ligne du client (SELECT ... FOR UPDATE) le temps d'une courte transaction.
+@Slf4j
+public class StockageSeauxPostgres implements StockageSeaux {
+
+    private final ProxyManager<String> proxyManager;
+    private final BucketConfiguration configuration;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration periode;
+
+    // Si la base ne répond pas, on limite quand même, localement, plutôt que de tout laisser passer
+    private final StockageSeauxMemoire secours;
+
+    public StockageSeauxPostgres(DataSource dataSource, Bandwidth limite, Duration periode, long maxCles) {
+        SQLProxyConfiguration<String> config = SQLProxyConfiguration.builder()
+                .withTableSettings(BucketTableSettings.customSettings("rate_limit_seaux", "id", "etat"))
+                .withPrimaryKeyMapper(PrimaryKeyMapper.STRING)
+                .build(dataSource);
+        this.proxyManager = new PostgreSQLSelectForUpdateBasedProxyManager<>(config);
+        this.configuration = BucketConfiguration.builder().addLimit(limite).build();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.periode = periode;
+        this.secours = new StockageSeauxMemoire(limite, periode, maxCles);
+    }
+
+    @Override
+    public ConsumptionProbe consommer(String cle) {
+        try {
+            return proxyManager.builder()
+                    .build(cle, () -> configuration)
+                    .tryConsumeAndReturnRemaining(1);
+        } catch (RuntimeException e) {
+            log.warn("Rate limiting partagé indisponible, repli sur les seaux locaux : {}", e.getMessage());
+            return secours.consommer(cle);
+        }
+    }
+
+    // bucket4j ne gère pas d'expiration côté PostgreSQL : on supprime les seaux restés
+    // inactifs une période complète (ils sont pleins, les recréer donne le même résultat)
+    @Scheduled(fixedDelayString = "${app.rate-limit.purge-interval-ms:600000}")
+    public void purgerSeauxInactifs() {
+        int supprimes = jdbcTemplate.update(
+                "DELETE FROM rate_limit_seaux WHERE mis_a_jour < now() - make_interval(secs => ?)",
+                periode.toSeconds());
+        if (supprimes > 0) {
+            log.debug("{} seaux de rate limiting inactifs supprimés", supprimes);
+        }
+    }
+}
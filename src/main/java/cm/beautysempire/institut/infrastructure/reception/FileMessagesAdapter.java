@@ -0,0 +1,259 @@
+package cm.beautysempire.institut.infrastructure.reception;
+
+import cm.beautysempire.institut.application.exception.FileMessagesSatureeException;
+import cm.beautysempire.institut.application.port.FileMessagesPort;
+import cm.beautysempire.institut.application.service.StatistiquesUseCase;
+import cm.beautysempire.institut.domain.messages.Message;
+import cm.beautysempire.institut.infrastructure.persistence.message.MessageBatchWriter;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// File de réception des contacts / pré-inscriptions : la requête HTTP ne touche plus la base.
+// Chemin d'un message : journal local (durable) -> file bornée -> écrivain unique qui insère par lots JDBC.
+// File pleine = refus immédiat (503) plutôt que d'accumuler les requêtes sur le pool de connexions.
+@Component
+@Slf4j
+public class FileMessagesAdapter implements FileMessagesPort {
+
+    private static final Duration ATTENTE_MAX_REESSAI = Duration.ofSeconds(30);
+
+    private final MessageBatchWriter writer;
+    private final StatistiquesUseCase statistiquesUseCase;
+    private final JournalMessages journal;
+    private final BlockingQueue<EnAttente> file;
+    private final int tailleLot;
+    // ReentrantLock plutôt que synchronized : le dépôt fait une écriture disque (fsync), qui bloquerait
+    // le thread porteur si la requête tourne sur un thread virtuel (spring.threads.virtual.enabled)
+    private final ReentrantLock verrouDepot = new ReentrantLock();
+    private final Thread ecrivain;
+    private volatile boolean actif = true;
+
+    private final Timer dureeEcriture;
+    private final Counter rejets;
+    private final Counter ecrits;
+    private final Counter ecartes;
+
+    public FileMessagesAdapter(MessageBatchWriter writer,
+                               StatistiquesUseCase statistiquesUseCase,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.messages.file.capacite:2000}") int capacite,
+                               @Value("${app.messages.file.taille-lot:100}") int tailleLot,
+                               @Value("${app.messages.journal.dossier:./data/journal-messages}") Path dossierJournal,
+                               @Value("${app.messages.journal.taille-segment:8MB}") DataSize tailleSegment,
+                               @Value("${app.messages.journal.fsync:true}") boolean fsync) throws IOException {
+        this.writer = writer;
+        this.statistiquesUseCase = statistiquesUseCase;
+        this.tailleLot = tailleLot;
+        this.file = new ArrayBlockingQueue<>(capacite);
+        this.journal = new JournalMessages(dossierJournal, tailleSegment.toBytes(), fsync,
+                objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+        Gauge.builder("institut.messages.file.taille", file, BlockingQueue::size)
+                .description("Messages acceptés en attente d'écriture en base")
+                .register(meterRegistry);
+        this.dureeEcriture = Timer.builder("institut.messages.ecriture")
+                .description("Durée d'écriture d'un lot de messages en base")
+                .register(meterRegistry);
+        this.rejets = Counter.builder("institut.messages.rejetes")
+                .description("Messages refusés car la file était pleine")
+                .register(meterRegistry);
+        this.ecrits = Counter.builder("institut.messages.ecrits")
+                .description("Messages écrits en base par l'écrivain")
+                .register(meterRegistry);
+        this.ecartes = Counter.builder("institut.messages.ecartes")
+                .description("Messages refusés par la base (contrainte violée), écartés sans nouvel essai")
+                .register(meterRegistry);
+
+        this.ecrivain = new Thread(this::boucleEcriture, "messages-writer");
+        this.ecrivain.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void demarrer() {
+        ecrivain.start();
+    }
+
+    @Override
+    public void deposer(Message message) {
+        // Le verrou rend atomiques "vérifier la place" + "journaliser" + "mettre en file" :
+        // un message journalisé trouve toujours sa place dans la file
+        verrouDepot.lock();
+        try {
+            if (!actif || file.remainingCapacity() == 0) {
+                rejets.increment();
+                throw new FileMessagesSatureeException("Trop de demandes en cours, veuillez réessayer dans quelques instants.");
+            }
+            JournalMessages.Segment segment;
+            try {
+                segment = journal.ajouter(message);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Impossible de journaliser le message", e);
+            }
+            file.add(new EnAttente(message, segment));
+        } finally {
+            verrouDepot.unlock();
+        }
+    }
+
+    // ==========================================
+    // ÉCRIVAIN (thread unique)
+    // ==========================================
+
+    private void boucleEcriture() {
+        rejouerSegmentsPrecedents();
+
+        List<EnAttente> lot = new ArrayList<>(tailleLot);
+        while (actif || !file.isEmpty()) {
+            try {
+                EnAttente premier = file.poll(200, TimeUnit.MILLISECONDS);
+                if (premier == null) continue;
+                lot.add(premier);
+                file.drainTo(lot, tailleLot - 1);
+
+                if (ecrireAvecReessais(lot.stream().map(EnAttente::message).toList())) {
+                    acquitter(lot);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // L'écrivain est unique : on journalise et on continue avec le lot suivant plutôt que de s'arrêter.
+                // Le lot n'est pas acquitté, il reste dans le journal et sera rejoué au prochain démarrage.
+                log.error("Erreur inattendue de l'écrivain, {} message(s) laissés au journal", lot.size(), e);
+            } finally {
+                lot.clear();
+            }
+        }
+    }
+
+    // Messages d'une exécution interrompue : l'insertion est idempotente (référence unique).
+    // Une partie du journal peut déjà être en base : le tableau de bord est recompté plutôt qu'ajusté.
+    private void rejouerSegmentsPrecedents() {
+        List<Path> segments = journal.segmentsPrecedents();
+        if (segments.isEmpty()) return;
+        try {
+            rejouer(segments);
+        } finally {
+            statistiquesUseCase.invalider();
+        }
+    }
+
+    private void rejouer(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                List<Message> messages = journal.lire(segment);
+                for (int debut = 0; debut < messages.size(); debut += tailleLot) {
+                    List<Message> lot = messages.subList(debut, Math.min(debut + tailleLot, messages.size()));
+                    if (!ecrireAvecReessais(lot)) return;
+                }
+                journal.supprimer(segment);
+                log.info("Journal {} rejoué : {} message(s)", segment.getFileName(), messages.size());
+            } catch (IOException | RuntimeException e) {
+                log.error("Rejeu impossible du journal {}, il sera retenté au prochain démarrage", segment, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Base indisponible (y compris à l'ouverture de la transaction) : on réessaie avec une attente croissante,
+    // le journal garde les messages. Une contrainte violée n'est pas transitoire : le lot est réécrit message
+    // par message et seul le fautif est écarté, sans bloquer ceux qui le suivent.
+    // Retourne false seulement à l'arrêt, le rejeu du prochain démarrage prendra le relais.
+    private boolean ecrireAvecReessais(List<Message> messages) throws InterruptedException {
+        long attente = 500;
+        while (true) {
+            try {
+                dureeEcriture.record(() -> writer.inserer(messages));
+                ecrits.increment(messages.size());
+                statistiquesUseCase.messagesRecus(messages.size());
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                if (messages.size() > 1) {
+                    return ecrireUnParUn(messages);
+                }
+                ecarter(messages.get(0), e);
+                return true;
+            } catch (DataAccessException | TransactionException e) {
+                if (!actif) {
+                    log.warn("Arrêt en cours : {} message(s) restent dans le journal", messages.size());
+                    return false;
+                }
+                log.error("Échec d'écriture de {} message(s), nouvel essai dans {} ms", messages.size(), attente, e);
+                Thread.sleep(attente);
+                attente = Math.min(attente * 2, ATTENTE_MAX_REESSAI.toMillis());
+            }
+        }
+    }
+
+    private boolean ecrireUnParUn(List<Message> messages) throws InterruptedException {
+        for (Message message : messages) {
+            if (!ecrireAvecReessais(List.of(message))) return false;
+        }
+        return true;
+    }
+
+    // Réessayer ne changerait rien : le message est tracé dans les logs puis retiré du journal
+    private void ecarter(Message message, DataIntegrityViolationException e) {
+        ecartes.increment();
+        log.error("Message {} ({}, reçu le {}) refusé par la base, écarté : {}", message.getReference(),
+                message.getType(), message.getDateCreation(), e.getMostSpecificCause().getMessage());
+    }
+
+    private void acquitter(List<EnAttente> lot) {
+        Map<JournalMessages.Segment, Integer> parSegment = new LinkedHashMap<>();
+        lot.forEach(e -> parSegment.merge(e.segment(), 1, Integer::sum));
+        parSegment.forEach((segment, nombre) -> {
+            try {
+                journal.acquitter(segment, nombre);
+            } catch (IOException e) {
+                // Au pire le segment sera rejoué (sans doublon) au prochain démarrage
+                log.warn("Impossible de supprimer un segment de journal terminé", e);
+            }
+        });
+    }
+
+    // Arrêt propre : on refuse les nouveaux messages, on vide la file puis on ferme le journal
+    @PreDestroy
+    public void arreter() throws InterruptedException, IOException {
+        verrouDepot.lock();
+        try {
+            actif = false;
+        } finally {
+            verrouDepot.unlock();
+        }
+        ecrivain.join(ATTENTE_MAX_REESSAI.toMillis());
+        journal.close();
+    }
+
+    private record EnAttente(Message message, JournalMessages.Segment segment) {
+    }
+}
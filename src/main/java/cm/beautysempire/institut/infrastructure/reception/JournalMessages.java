@@ -0,0 +1,178 @@
+package cm.beautysempire.institut.infrastructure.reception;
+
+import cm.beautysempire.institut.domain.messages.Message;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Journal local "append-only" : chaque message accepté y est écrit (une ligne JSON) avant d'entrer dans la file.
+// Il est découpé en segments ; un segment est supprimé dès que tous ses messages sont en base, y compris
+// le segment ouvert (le message suivant en ouvre un nouveau). Au démarrage, les segments restants sont ceux
+// d'une exécution interrompue : ils ne contiennent que des messages peut-être pas encore écrits, et sont rejoués.
+@Slf4j
+class JournalMessages implements Closeable {
+
+    private static final String PREFIXE = "segment-";
+    private static final String SUFFIXE = ".jsonl";
+
+    private final Path dossier;
+    private final long tailleMaxSegment;
+    private final boolean fsync;
+    private final ObjectMapper objectMapper;
+
+    private final List<Path> segmentsPrecedents;
+    private long prochainNumero;
+    // Pas de synchronized : ajouter() écrit et fsync sous le verrou, ce qui épinglerait un thread virtuel
+    private final ReentrantLock verrou = new ReentrantLock();
+    private Segment courant;
+
+    JournalMessages(Path dossier, long tailleMaxSegment, boolean fsync, ObjectMapper objectMapper) throws IOException {
+        this.dossier = Files.createDirectories(dossier);
+        this.tailleMaxSegment = tailleMaxSegment;
+        this.fsync = fsync;
+        this.objectMapper = objectMapper;
+
+        try (Stream<Path> fichiers = Files.list(this.dossier)) {
+            this.segmentsPrecedents = fichiers
+                    .filter(p -> p.getFileName().toString().startsWith(PREFIXE))
+                    .filter(p -> p.getFileName().toString().endsWith(SUFFIXE))
+                    .sorted(Comparator.comparingLong(JournalMessages::numero))
+                    .toList();
+        }
+        this.prochainNumero = segmentsPrecedents.isEmpty() ? 1 : numero(segmentsPrecedents.get(segmentsPrecedents.size() - 1)) + 1;
+    }
+
+    // Segments laissés par l'exécution précédente, dans l'ordre d'écriture
+    List<Path> segmentsPrecedents() {
+        return segmentsPrecedents;
+    }
+
+    List<Message> lire(Path segment) throws IOException {
+        List<Message> messages = new ArrayList<>();
+        try (BufferedReader lecteur = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String ligne;
+            while ((ligne = lecteur.readLine()) != null) {
+                if (ligne.isBlank()) continue;
+                try {
+                    messages.add(objectMapper.readValue(ligne, Message.class));
+                } catch (JsonProcessingException e) {
+                    // Ligne tronquée par un arrêt brutal pendant l'écriture : elle n'avait pas été acceptée
+                    log.warn("Ligne illisible ignorée dans {} : {}", segment.getFileName(), e.getOriginalMessage());
+                }
+            }
+        }
+        return messages;
+    }
+
+    void supprimer(Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    Segment ajouter(Message message) throws IOException {
+        verrou.lock();
+        try {
+            if (courant == null || courant.taille >= tailleMaxSegment) {
+                ouvrirNouveauSegment();
+            }
+            byte[] ligne = (objectMapper.writeValueAsString(message) + "\n").getBytes(StandardCharsets.UTF_8);
+            ByteBuffer tampon = ByteBuffer.wrap(ligne);
+            while (tampon.hasRemaining()) {
+                courant.canal.write(tampon);
+            }
+            if (fsync) {
+                courant.canal.force(false);
+            }
+            courant.taille += ligne.length;
+            courant.ecrits++;
+            return courant;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    // Appelé par l'écrivain une fois les messages en base
+    void acquitter(Segment segment, int nombre) throws IOException {
+        verrou.lock();
+        try {
+            segment.acquittes += nombre;
+            if (!segment.estTermine()) return;
+            if (segment == courant) {
+                // Sans cela, après un arrêt brutal, tout ce qui a été reçu depuis la dernière rotation serait rejoué,
+                // y compris des messages archivés depuis (réinsérés NON_LU, notifications renvoyées)
+                fermer(courant);
+                courant = null;
+            } else {
+                Files.deleteIfExists(segment.chemin);
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        verrou.lock();
+        try {
+            if (courant != null) {
+                fermer(courant);
+                courant = null;
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    private void ouvrirNouveauSegment() throws IOException {
+        if (courant != null) {
+            fermer(courant);
+        }
+        Path chemin = dossier.resolve(PREFIXE + String.format("%012d", prochainNumero++) + SUFFIXE);
+        FileChannel canal = FileChannel.open(chemin, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        courant = new Segment(chemin, canal);
+    }
+
+    private void fermer(Segment segment) throws IOException {
+        segment.canal.close();
+        if (segment.estTermine()) {
+            Files.deleteIfExists(segment.chemin);
+        }
+    }
+
+    private static long numero(Path segment) {
+        String nom = segment.getFileName().toString();
+        return Long.parseLong(nom.substring(PREFIXE.length(), nom.length() - SUFFIXE.length()));
+    }
+
+    // État d'un segment, modifié uniquement sous le verrou du journal
+    static final class Segment {
+        private final Path chemin;
+        private final FileChannel canal;
+        private long taille;
+        private int ecrits;
+        private int acquittes;
+
+        private Segment(Path chemin, FileChannel canal) {
+            this.chemin = chemin;
+            this.canal = canal;
+        }
+
+        private boolean estTermine() {
+            return acquittes >= ecrits;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package cm.beautysempire.institut.infrastructure.security;
+
+import cm.beautysempire.institut.application.port.JetonAdmin;
+import cm.beautysempire.institut.application.port.JetonAdminPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.core.oidc.IdTokenClaimNames;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+// Jetons JWT signés HS256 : la vérification est un simple HMAC, sans BCrypt ni état serveur
+@Component
+@RequiredArgsConstructor
+public class JwtJetonAdminAdapter implements JetonAdminPort {
+
+    public static final String EMETTEUR = "institut-beautys-empire";
+    public static final String CLAIM_ROLES = "roles";
+
+    private final JwtEncoder jwtEncoder;
+
+    @Override
+    public JetonAdmin emettre(String admin, Instant debutSession, Instant expiration) {
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(EMETTEUR)
+                .subject(admin)
+                .issuedAt(Instant.now())
+                .expiresAt(expiration)
+                .claim(CLAIM_ROLES, List.of("ADMIN"))
+                .claim(IdTokenClaimNames.AUTH_TIME, debutSession.getEpochSecond())
+                .build();
+        JwsHeader entete = JwsHeader.with(MacAlgorithm.HS256).build();
+
+        String valeur = jwtEncoder.encode(JwtEncoderParameters.from(entete, claims)).getTokenValue();
+        return new JetonAdmin(valeur, expiration);
+    }
+}
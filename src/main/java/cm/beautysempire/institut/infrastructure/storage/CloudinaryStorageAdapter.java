@@ -6,9 +6,9 @@ import com.cloudinary.utils.ObjectUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 
 @Component
@@ -19,10 +19,11 @@ public class CloudinaryStorageAdapter implements StoragePort {
     private final Cloudinary cloudinary;
 
     @Override
-    public String[] uploadImage(MultipartFile file, String dossier) {
+    public String[] uploadImage(Path fichier, String dossier) {
         try {
             // On demande à Cloudinary de compresser l'image (quality: auto) et de choisir le meilleur format (fetch_format: auto)
-            Map uploadResult = cloudinary.uploader().upload(file.getBytes(), ObjectUtils.asMap(
+            // Passer un File (et non un byte[]) fait envoyer le corps multipart en flux depuis le disque
+            Map uploadResult = cloudinary.uploader().upload(fichier.toFile(), ObjectUtils.asMap(
                     "folder", dossier,
                     "quality", "auto:good",
                     "fetch_format", "auto"
@@ -0,0 +1,57 @@
+package cm.beautysempire.institut.infrastructure.storage;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+// Envois de la galerie en mode threads virtuels (spring.threads.virtual.enabled, Java 21+) :
+// un thread virtuel par envoi au lieu d'un pool, mais les mêmes bornes que le ThreadPoolTaskExecutor
+// du mode classique. Cloudinary ne reçoit jamais plus de "paralleles" envois à la fois et au-delà de
+// "paralleles + file" envois acceptés, on refuse (l'image passe en ECHEC, voir GalleryUseCase).
+public class ExecuteurEnvoisVirtuel implements TaskExecutor, AutoCloseable {
+
+    private final SimpleAsyncTaskExecutor threads;
+    private final Semaphore acceptes;
+    private final Semaphore enCours;
+
+    public ExecuteurEnvoisVirtuel(String prefixe, int paralleles, int capaciteFile, long attenteArretMs) {
+        this.threads = new SimpleAsyncTaskExecutor(prefixe);
+        this.threads.setVirtualThreads(true);
+        // Arrêt propre : close() attend la fin des envois déjà acceptés
+        this.threads.setTaskTerminationTimeout(attenteArretMs);
+        this.acceptes = new Semaphore(paralleles + capaciteFile);
+        this.enCours = new Semaphore(paralleles, true);
+    }
+
+    @Override
+    public void execute(Runnable tache) {
+        if (!acceptes.tryAcquire()) {
+            throw new TaskRejectedException("File des envois de la galerie pleine");
+        }
+        try {
+            threads.execute(() -> {
+                try {
+                    // Le thread virtuel attend son tour sans occuper de thread système
+                    enCours.acquireUninterruptibly();
+                    try {
+                        tache.run();
+                    } finally {
+                        enCours.release();
+                    }
+                } finally {
+                    acceptes.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            acceptes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        threads.close();
+    }
+}
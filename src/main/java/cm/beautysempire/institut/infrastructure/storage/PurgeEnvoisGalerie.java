@@ -0,0 +1,32 @@
+package cm.beautysempire.institut.infrastructure.storage;
+
+import cm.beautysempire.institut.application.service.GalleryUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Un redémarrage en plein envoi laisse des images EN_ATTENTE et des fichiers temporaires derrière lui
+@Component
+@Slf4j
+public class PurgeEnvoisGalerie {
+
+    private final GalleryUseCase galleryUseCase;
+    private final Duration delaiMax;
+
+    public PurgeEnvoisGalerie(GalleryUseCase galleryUseCase,
+                              @Value("${app.gallery.envoi.delai-max:1h}") Duration delaiMax) {
+        this.galleryUseCase = galleryUseCase;
+        this.delaiMax = delaiMax;
+    }
+
+    @Scheduled(fixedDelayString = "${app.gallery.envoi.purge-interval-ms:900000}")
+    public void purger() {
+        int soldes = galleryUseCase.solderEnvoisInterrompus(delaiMax);
+        if (soldes > 0) {
+            log.warn("{} envois de photos interrompus passés en ECHEC", soldes);
+        }
+    }
+}
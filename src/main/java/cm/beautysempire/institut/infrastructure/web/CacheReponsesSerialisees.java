@@ -0,0 +1,59 @@
+package cm.beautysempire.institut.infrastructure.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+// Réponses JSON déjà sérialisées (et déjà gzippées) des GET publics les plus demandés.
+// La clé contient l'empreinte des données : une modification crée simplement une nouvelle clé,
+// les anciennes sortent par LRU ou par expiration, sans invalidation explicite.
+public class CacheReponsesSerialisees {
+
+    private final Cache<String, ReponseSerialisee> reponses;
+    private final int seuilCompression;
+
+    public CacheReponsesSerialisees(long poidsMaxOctets, Duration ttl, int seuilCompression) {
+        this.reponses = Caffeine.newBuilder()
+                .maximumWeight(poidsMaxOctets)
+                .weigher((String cle, ReponseSerialisee reponse) -> reponse.poids())
+                .expireAfterWrite(ttl)
+                .build();
+        this.seuilCompression = seuilCompression;
+    }
+
+    public ReponseSerialisee get(String cle) {
+        return reponses.getIfPresent(cle);
+    }
+
+    public void put(String cle, ReponseSerialisee reponse) {
+        reponses.put(cle, reponse);
+    }
+
+    // Version gzip calculée une fois, à la mise en cache ; rien en dessous du seuil (gain nul)
+    public ReponseSerialisee preparer(String contentType, byte[] brut) {
+        return new ReponseSerialisee(contentType, brut, brut.length >= seuilCompression ? gzip(brut) : null);
+    }
+
+    private static byte[] gzip(byte[] brut) {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream(brut.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(sortie)) {
+            gzip.write(brut);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sortie.toByteArray();
+    }
+
+    // gzip == null : réponse trop petite pour être compressée
+    public record ReponseSerialisee(String contentType, byte[] brut, byte[] gzip) {
+
+        int poids() {
+            return brut.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package cm.beautysempire.institut.infrastructure.web;
+
+import cm.beautysempire.institut.application.port.CompteurVuesPort;
+import cm.beautysempire.institut.infrastructure.persistence.shared.EmpreintesContenu;
+import cm.beautysempire.institut.infrastructure.web.CacheReponsesSerialisees.ReponseSerialisee;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+// ETag + Cache-Control sur les GET publics, et 304 Not Modified sur If-None-Match.
+// L'empreinte est lue (EmpreintesContenu) AVANT le contrôleur : un client à jour ne coûte
+// qu'une requête d'agrégat, sans chargement d'entité ni sérialisation.
+// Pour les routes les plus demandées, le corps JSON (brut et gzippé) est gardé par URL + empreinte
+// et réécrit tel quel : ni contrôleur, ni Jackson, ni compression à la requête.
+// Enregistré uniquement par FilterConfig, juste après Spring Security (en-têtes CORS déjà posés).
+public class RequetesConditionnellesFilter extends OncePerRequestFilter {
+
+    // Politiques Cache-Control, configurables par groupe de routes (app.http.cache-control.*)
+    public static final String CATALOGUE = "catalogue";
+    public static final String FORMATION = "formation";
+    public static final String GALERIE = "galerie";
+    public static final String TEMOIGNAGES = "temoignages";
+
+    // Motifs servlet ("/*" couvre toute la sous-arborescence) ; le tri fin se fait sur les règles ci-dessous
+    public static final List<String> ROUTES = List.of("/api/formations/*",
+            "/api/gallery", "/api/gallery/scroll", "/api/testimonials", "/api/testimonials/scroll");
+
+    private final EmpreintesContenu empreintes;
+    private final CompteurVuesPort compteurVuesPort;
+    private final Map<String, String> politiques;
+    private final CacheReponsesSerialisees cache;
+    private final List<Regle> regles;
+
+    public RequetesConditionnellesFilter(EmpreintesContenu empreintes, CompteurVuesPort compteurVuesPort,
+                                         Map<String, String> politiques, CacheReponsesSerialisees cache) {
+        this.empreintes = empreintes;
+        this.compteurVuesPort = compteurVuesPort;
+        this.politiques = politiques;
+        this.cache = cache;
+
+        // Les listes paginées partagent l'empreinte de leur collection : l'ETag vaut pour l'URL
+        // complète (page, size, after...), c'est elle que le navigateur ou le CDN met en cache
+        Function<Map<String, String>, Optional<Empreinte>> catalogue = v -> Empreinte.de(empreintes.catalogue());
+        Function<Map<String, String>, Optional<Empreinte>> galerie = v -> Empreinte.de(empreintes.galerie());
+        Function<Map<String, String>, Optional<Empreinte>> temoignages = v -> Empreinte.de(empreintes.temoignages());
+        // La recherche n'est pas mise en cache : une clé par texte saisi, presque jamais réutilisée
+        this.regles = List.of(
+                regle("/api/formations/actives", CATALOGUE, true, catalogue),
+                regle("/api/formations/actives/cartes", CATALOGUE, true, catalogue),
+                regle("/api/formations/actives/scroll", CATALOGUE, true, catalogue),
+                regle("/api/formations/search", CATALOGUE, false, catalogue),
+                regle("/api/formations/{id:\\d+}", FORMATION, true,
+                        v -> empreintes.formation(Long.parseLong(v.get("id"))).flatMap(Empreinte::de)),
+                regle("/api/formations/slug/{slug}", FORMATION, true, this::empreinteParSlug),
+                regle("/api/gallery", GALERIE, true, galerie),
+                regle("/api/gallery/scroll", GALERIE, true, galerie),
+                regle("/api/testimonials", TEMOIGNAGES, true, temoignages),
+                regle("/api/testimonials/scroll", TEMOIGNAGES, true, temoignages));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        PathContainer chemin = PathContainer.parsePath(request.getRequestURI());
+        for (Regle regle : regles) {
+            PathPattern.PathMatchInfo correspondance = regle.motif().matchAndExtract(chemin);
+            if (correspondance == null) continue;
+
+            // Ressource introuvable : le contrôleur répondra 404, sans ETag
+            Optional<Empreinte> empreinte = regle.empreinte().apply(correspondance.getUriVariables());
+            if (empreinte.isEmpty()) break;
+
+            // Chaque encodage a son propre ETag fort (mêmes octets <=> même ETag) : "-gzip" seulement si
+            // le corps est réellement envoyé compressé (un petit corps part brut, même si gzip est accepté).
+            // Les deux variantes viennent de la même empreinte : le 304 revalide celle que le client détient.
+            boolean gzipAccepte = accepteGzip(request);
+            String base = regle.politique() + "-" + empreinte.get().valeur();
+            String etagDetenu = gzipAccepte && detient(request, etag(base, true)) ? etag(base, true) : etag(base, false);
+            String cacheControl = politiques.get(regle.politique());
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            // checkNotModified pose l'ETag même quand il répond false : appelé seulement si le client présente
+            // cet ETag, sinon une erreur du contrôleur (400, 404) repartirait avec l'ETag
+            if (detient(request, etagDetenu) && new ServletWebRequest(request, response).checkNotModified(etagDetenu)) {
+                // 304 : checkNotModified a déjà posé le statut et l'ETag
+                response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+                empreinte.get().siNonModifie().run();
+                return;
+            }
+
+            String cle = regle.enCache() ? request.getRequestURI() + "?" + Objects.toString(request.getQueryString(), "") + "|" + base : null;
+            ReponseSerialisee enCache = cle == null ? null : cache.get(cle);
+            if (enCache != null) {
+                empreinte.get().siNonModifie().run();
+                ecrire(request, response, enCache, gzipAccepte, base, cacheControl);
+                return;
+            }
+
+            ContentCachingResponseWrapper capture = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, capture);
+
+            // Erreur (400, 404...) : rendue telle quelle, sans ETag, pour ne jamais être revalidée par un 304
+            if (capture.getStatus() != HttpServletResponse.SC_OK) {
+                capture.copyBodyToResponse();
+                return;
+            }
+            ReponseSerialisee reponse = cache.preparer(capture.getContentType(), capture.getContentAsByteArray());
+            if (cle != null) {
+                cache.put(cle, reponse);
+            }
+            ecrire(request, response, reponse, gzipAccepte, base, cacheControl);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static void ecrire(HttpServletRequest request, HttpServletResponse response, ReponseSerialisee reponse,
+                               boolean gzipAccepte, String base, String cacheControl) throws IOException {
+        boolean gzip = gzipAccepte && reponse.gzip() != null;
+        byte[] corps = gzip ? reponse.gzip() : reponse.brut();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(reponse.contentType());
+        response.setHeader(HttpHeaders.ETAG, etag(base, gzip));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(corps.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(corps);
+        }
+    }
+
+    private static String etag(String base, boolean gzip) {
+        return "\"" + base + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    private static boolean detient(HttpServletRequest request, String etag) {
+        Enumeration<String> entetes = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (entetes != null && entetes.hasMoreElements()) {
+            String valeur = entetes.nextElement();
+            if (valeur.contains(etag) || valeur.trim().equals("*")) return true;
+        }
+        return false;
+    }
+
+    // "gzip" ou "*" présents dans Accept-Encoding, sans q=0
+    private static boolean accepteGzip(HttpServletRequest request) {
+        Enumeration<String> entetes = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (entetes != null && entetes.hasMoreElements()) {
+            for (String encodage : entetes.nextElement().split(",")) {
+                String[] parties = encodage.trim().split(";");
+                String nom = parties[0].trim();
+                if (!nom.equalsIgnoreCase("gzip") && !nom.equals("*")) continue;
+                boolean refuse = parties.length > 1 && parties[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+                if (!refuse) return true;
+            }
+        }
+        return false;
+    }
+
+    // La page détail compte ses vues : un 304 en est une aussi, alors que le contrôleur ne sera pas appelé
+    private Optional<Empreinte> empreinteParSlug(Map<String, String> variables) {
+        return empreintes.formationParSlug(variables.get("slug")).map(formation ->
+                new Empreinte(formation.empreinte(), () -> compteurVuesPort.enregistrerVue(formation.id())));
+    }
+
+    private static Regle regle(String motif, String politique, boolean enCache,
+                               Function<Map<String, String>, Optional<Empreinte>> empreinte) {
+        return new Regle(PathPatternParser.defaultInstance.parse(motif), politique, enCache, empreinte);
+    }
+
+    private record Regle(PathPattern motif, String politique, boolean enCache,
+                         Function<Map<String, String>, Optional<Empreinte>> empreinte) {
+    }
+
+    // siNonModifie : ce que le contrôleur aurait fait en plus de lire, à rejouer quand il n'est pas appelé
+    // (304 ou réponse servie depuis le cache)
+    private record Empreinte(String valeur, Runnable siNonModifie) {
+
+        static Optional<Empreinte> de(String valeur) {
+            return Optional.of(new Empreinte(valeur, () -> { }));
+        }
+    }
+}
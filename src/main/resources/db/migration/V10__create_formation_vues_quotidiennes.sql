@@ -0,0 +1,8 @@
+-- Vues des fiches formation agrégées par jour (courbes du tableau de bord).
+-- Alimentée par le compteur de vues en mémoire, en même temps que formations.nombre_vues.
+CREATE TABLE formation_vues_quotidiennes (
+    jour DATE NOT NULL,
+    formation_id BIGINT NOT NULL REFERENCES formations(id),
+    vues BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (jour, formation_id)
+);
@@ -0,0 +1,5 @@
+-- Référence attribuée à la réception (avant l'écriture différée en base).
+-- L'index unique rend le rejeu du journal idempotent (INSERT ... ON CONFLICT DO NOTHING).
+ALTER TABLE messages ADD COLUMN reference VARCHAR(36);
+
+CREATE UNIQUE INDEX uk_messages_reference ON messages (reference);
@@ -0,0 +1,20 @@
+-- Seaux de jetons du rate limiting, partagés entre les instances (app.rate-limit.backend=postgres).
+-- L'état est sérialisé par bucket4j ; mis_a_jour sert uniquement à purger les seaux inactifs.
+CREATE TABLE rate_limit_seaux (
+    id VARCHAR(128) PRIMARY KEY,
+    etat BYTEA,
+    mis_a_jour TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE FUNCTION rate_limit_seaux_touche() RETURNS trigger AS $$
+BEGIN
+    NEW.mis_a_jour := now();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER rate_limit_seaux_mis_a_jour
+    BEFORE UPDATE ON rate_limit_seaux
+    FOR EACH ROW EXECUTE FUNCTION rate_limit_seaux_touche();
+
+CREATE INDEX idx_rate_limit_seaux_mis_a_jour ON rate_limit_seaux (mis_a_jour);
@@ -0,0 +1,13 @@
+-- Envoi des photos en arrière-plan : la ligne existe avant que le fichier soit sur Cloudinary.
+-- url reste nulle tant que l'image est EN_ATTENTE ; les images existantes sont déjà en ligne.
+ALTER TABLE gallery_images ALTER COLUMN url DROP NOT NULL;
+ALTER TABLE gallery_images ADD COLUMN statut VARCHAR(20) NOT NULL DEFAULT 'DISPONIBLE';
+ALTER TABLE gallery_images ALTER COLUMN statut DROP DEFAULT;
+
+-- La galerie publique ne montre que les images disponibles
+DROP INDEX idx_gallery_images_publiques_date_creation_id;
+CREATE INDEX idx_gallery_images_publiques_date_creation_id
+    ON gallery_images (date_creation DESC, id DESC) WHERE is_public = TRUE AND statut = 'DISPONIBLE';
+
+-- Purge des envois interrompus : quelques lignes au plus
+CREATE INDEX idx_gallery_images_en_attente ON gallery_images (date_creation) WHERE statut = 'EN_ATTENTE';
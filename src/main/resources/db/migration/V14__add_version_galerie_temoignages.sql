@@ -0,0 +1,20 @@
+-- Numéro de version des images et témoignages, pour les ETag des listes publiques.
+-- Incrémenté par trigger : les UPDATE JPA comme les UPDATE groupés (@Modifying) le font avancer
+-- sans que les entités aient à le connaître.
+ALTER TABLE gallery_images ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE testimonials ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE FUNCTION incrementer_version() RETURNS trigger AS $$
+BEGIN
+    NEW.version := OLD.version + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER gallery_images_version
+    BEFORE UPDATE ON gallery_images
+    FOR EACH ROW EXECUTE FUNCTION incrementer_version();
+
+CREATE TRIGGER testimonials_version
+    BEFORE UPDATE ON testimonials
+    FOR EACH ROW EXECUTE FUNCTION incrementer_version();
@@ -0,0 +1,19 @@
+-- Boîte d'envoi des notifications (WhatsApp admin, email de confirmation).
+-- Les lignes sont créées dans la même transaction que l'insertion des messages, puis réclamées
+-- par lots (FOR UPDATE SKIP LOCKED) et envoyées hors de toute requête HTTP.
+CREATE TABLE notifications_sortantes (
+    id BIGSERIAL PRIMARY KEY,
+    message_id BIGINT NOT NULL REFERENCES messages (id) ON DELETE CASCADE,
+    canal VARCHAR(30) NOT NULL,
+    statut VARCHAR(15) NOT NULL DEFAULT 'EN_ATTENTE',
+    tentatives INT NOT NULL DEFAULT 0,
+    prochain_essai TIMESTAMPTZ NOT NULL DEFAULT now(),
+    derniere_erreur VARCHAR(500),
+    date_creation TIMESTAMPTZ NOT NULL DEFAULT now(),
+    envoyee_le TIMESTAMPTZ,
+    CONSTRAINT uk_notifications_sortantes_message_canal UNIQUE (message_id, canal)
+);
+
+-- Seules les notifications à envoyer sont parcourues par le dispatcheur
+CREATE INDEX idx_notifications_sortantes_a_envoyer
+    ON notifications_sortantes (prochain_essai) WHERE statut = 'EN_ATTENTE';
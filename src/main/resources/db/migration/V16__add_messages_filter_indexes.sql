@@ -0,0 +1,18 @@
+-- Filtres de la boîte de réception admin : chaque critère d'égalité suivi de l'ordre d'affichage
+-- (date_creation DESC, id DESC). Filtrer puis paginer devient un parcours d'une plage d'index,
+-- arrêté dès que la page est pleine, au lieu d'une lecture complète de la table suivie d'un tri.
+CREATE INDEX idx_messages_statut_date_creation_id
+    ON messages (statut, date_creation DESC, id DESC);
+
+CREATE INDEX idx_messages_type_date_creation_id
+    ON messages (type, date_creation DESC, id DESC);
+
+CREATE INDEX idx_messages_formation_date_creation_id
+    ON messages (formation_id, date_creation DESC, id DESC)
+    WHERE formation_id IS NOT NULL;
+
+-- Recherche libre "contient" sur le nom et le téléphone (LIKE '%...%') : index trigrammes
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_messages_nom_trgm ON messages USING GIN (lower(nom) gin_trgm_ops);
+CREATE INDEX idx_messages_telephone_trgm ON messages USING GIN (telephone gin_trgm_ops);
@@ -0,0 +1,120 @@
+-- Cycle de vie des messages : la table est partitionnée par mois sur date_creation et les messages
+-- archivés anciens partent dans messages_archives (table froide, sans IP ni user agent).
+-- Une liste admin (ORDER BY date_creation DESC ... LIMIT) ne lit que le haut de l'index de chaque partition,
+-- un filtre de période (du / au) écarte les autres mois dès la planification, et une partition vidée
+-- par l'archivage est simplement détachée puis supprimée.
+
+-- 1. Nouvelle table partitionnée, mêmes colonnes et valeurs par défaut (dont la séquence de l'id)
+ALTER TABLE messages RENAME TO messages_non_partitionnee;
+
+CREATE TABLE messages (LIKE messages_non_partitionnee INCLUDING DEFAULTS)
+    PARTITION BY RANGE (date_creation);
+
+-- La séquence suit la nouvelle table, sinon elle disparaîtrait avec l'ancienne
+ALTER SEQUENCE messages_id_seq OWNED BY messages.id;
+
+-- 2. Création d'une partition mensuelle (appelée aussi par CycleVieMessages, plusieurs mois à l'avance).
+-- CREATE puis ATTACH : le parent n'est verrouillé qu'en SHARE UPDATE EXCLUSIVE, les lectures continuent.
+CREATE FUNCTION creer_partition_messages(mois DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    debut DATE := date_trunc('month', mois)::date;
+    fin DATE := (date_trunc('month', mois) + interval '1 month')::date;
+    nom TEXT := 'messages_' || to_char(debut, 'YYYY_MM');
+BEGIN
+    -- Plusieurs instances peuvent lancer la maintenance en même temps
+    PERFORM pg_advisory_xact_lock(hashtext('creer_partition_messages'));
+    IF to_regclass(nom) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE messages INCLUDING DEFAULTS)', nom);
+    EXECUTE format('ALTER TABLE messages ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', nom, debut, fin);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    mois DATE;
+BEGIN
+    FOR mois IN
+        SELECT generate_series(
+                       date_trunc('month', coalesce((SELECT min(date_creation) FROM messages_non_partitionnee), now())),
+                       date_trunc('month', now()) + interval '3 months',
+                       interval '1 month')::date
+    LOOP
+        PERFORM creer_partition_messages(mois);
+    END LOOP;
+END;
+$$;
+
+-- Filet de sécurité : une date hors des partitions créées n'empêche pas l'insertion.
+-- Elle doit rester vide (CycleVieMessages la surveille), sinon la partition du mois ne peut plus être créée.
+CREATE TABLE messages_defaut PARTITION OF messages DEFAULT;
+
+-- 3. Copie des données, les index sont construits ensuite (plus rapide)
+INSERT INTO messages SELECT * FROM messages_non_partitionnee;
+
+-- Une clé étrangère vers une table partitionnée doit inclure la clé de partition
+ALTER TABLE notifications_sortantes ADD COLUMN message_date_creation TIMESTAMP;
+
+UPDATE notifications_sortantes n
+SET message_date_creation = m.date_creation
+FROM messages_non_partitionnee m
+WHERE m.id = n.message_id;
+
+ALTER TABLE notifications_sortantes ALTER COLUMN message_date_creation SET NOT NULL;
+ALTER TABLE notifications_sortantes DROP CONSTRAINT notifications_sortantes_message_id_fkey;
+
+DROP TABLE messages_non_partitionnee;
+
+-- 4. Contraintes et index, déclarés sur le parent et créés dans chaque partition
+ALTER TABLE messages ADD CONSTRAINT messages_pkey PRIMARY KEY (id, date_creation);
+
+ALTER TABLE messages ADD CONSTRAINT messages_formation_id_fkey
+    FOREIGN KEY (formation_id) REFERENCES formations (id);
+
+ALTER TABLE notifications_sortantes ADD CONSTRAINT notifications_sortantes_message_fkey
+    FOREIGN KEY (message_id, message_date_creation) REFERENCES messages (id, date_creation) ON DELETE CASCADE;
+
+-- Un index unique doit lui aussi contenir date_creation : le rejeu du journal réécrit le message
+-- avec sa date de réception d'origine, (reference, date_creation) reste donc un doublon exact
+CREATE UNIQUE INDEX uk_messages_reference_date_creation ON messages (reference, date_creation);
+
+CREATE INDEX idx_messages_date_creation_id ON messages (date_creation DESC, id DESC);
+
+CREATE INDEX idx_messages_statut_date_creation_id ON messages (statut, date_creation DESC, id DESC);
+CREATE INDEX idx_messages_type_date_creation_id ON messages (type, date_creation DESC, id DESC);
+CREATE INDEX idx_messages_formation_date_creation_id ON messages (formation_id, date_creation DESC, id DESC)
+    WHERE formation_id IS NOT NULL;
+
+CREATE INDEX idx_messages_nom_trgm ON messages USING GIN (lower(nom) gin_trgm_ops);
+CREATE INDEX idx_messages_telephone_trgm ON messages USING GIN (telephone gin_trgm_ops);
+
+-- 5. Table froide : messages ARCHIVE plus anciens que app.messages.archivage.apres-mois.
+-- Ni adresse IP ni user agent (inutiles une fois le message traité), pas de clé étrangère
+-- vers formations (une formation supprimée plus tard ne doit pas bloquer).
+CREATE TABLE messages_archives (
+    id BIGINT PRIMARY KEY,
+    reference VARCHAR(36),
+    type VARCHAR(20) NOT NULL,
+    statut VARCHAR(15) NOT NULL,
+    nom VARCHAR(100) NOT NULL,
+    email VARCHAR(150),
+    telephone VARCHAR(20),
+    ville VARCHAR(50),
+    quartier VARCHAR(100),
+    sujet VARCHAR(100),
+    message TEXT NOT NULL,
+    formation_id BIGINT,
+    formation_nom_snapshot VARCHAR(100),
+    disponibilites TEXT,
+    date_creation TIMESTAMP NOT NULL,
+    date_lecture TIMESTAMP,
+    date_traitement TIMESTAMP,
+    traite_par_admin VARCHAR(50),
+    source_visite VARCHAR(100),
+    date_archivage TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Tendances du tableau de bord (bornées par plage sur date_creation)
+CREATE INDEX idx_messages_archives_date_creation ON messages_archives (date_creation);
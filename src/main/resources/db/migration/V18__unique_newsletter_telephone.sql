@@ -0,0 +1,38 @@
+-- Un abonné par numéro : les numéros sont ramenés au format E.164 (même règle que TelephoneE164),
+-- les doublons fusionnés, puis un index unique permet l'inscription en INSERT ... ON CONFLICT DO NOTHING.
+
+-- 1. Normalisation : chiffres seuls ; "+" ou "00" en tête = numéro international gardé tel quel (sans le "00"),
+-- 9 chiffres sans préfixe = numéro national camerounais, préfixé par 237
+UPDATE newsletter_subscriptions n
+SET telephone = '+' || CASE
+                           WHEN c.international THEN c.chiffres
+                           WHEN c.chiffres LIKE '00%' THEN substr(c.chiffres, 3)
+                           WHEN length(c.chiffres) = 9 THEN '237' || c.chiffres
+                           ELSE c.chiffres
+                       END
+FROM (SELECT id,
+             regexp_replace(telephone, '[^0-9]', '', 'g') AS chiffres,
+             ltrim(telephone) LIKE '+%' AS international
+      FROM newsletter_subscriptions) c
+WHERE c.id = n.id
+  AND c.chiffres <> '';
+
+-- 2. Doublons : on garde la première inscription, en reprenant l'email et le suivi des suivantes
+UPDATE newsletter_subscriptions n
+SET email = coalesce(n.email, g.email),
+    contacte = g.contacte
+FROM (SELECT telephone,
+             min(id) AS premier,
+             bool_or(contacte) AS contacte,
+             (array_agg(email ORDER BY id) FILTER (WHERE email IS NOT NULL))[1] AS email
+      FROM newsletter_subscriptions
+      GROUP BY telephone
+      HAVING count(*) > 1) g
+WHERE n.id = g.premier;
+
+DELETE FROM newsletter_subscriptions n
+USING newsletter_subscriptions premier
+WHERE premier.telephone = n.telephone
+  AND premier.id < n.id;
+
+CREATE UNIQUE INDEX uk_newsletter_subscriptions_telephone ON newsletter_subscriptions (telephone);
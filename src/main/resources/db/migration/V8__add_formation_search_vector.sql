@@ -0,0 +1,18 @@
+-- Recherche plein texte des formations (remplace les LIKE '%...%')
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Configuration française insensible aux accents : unaccent puis racinisation française
+CREATE TEXT SEARCH CONFIGURATION fr_unaccent (COPY = french);
+ALTER TEXT SEARCH CONFIGURATION fr_unaccent
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, french_stem;
+
+-- Colonne calculée par PostgreSQL : toujours à jour, jamais écrite par l'application
+ALTER TABLE formations ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('fr_unaccent', coalesce(nom, '')), 'A') ||
+        setweight(to_tsvector('fr_unaccent', coalesce(categorie, '')), 'B') ||
+        setweight(to_tsvector('fr_unaccent', coalesce(description, '')), 'C') ||
+        setweight(to_tsvector('fr_unaccent', coalesce(programme, '')), 'D')
+    ) STORED;
+
+CREATE INDEX idx_formations_search_vector ON formations USING GIN (search_vector);
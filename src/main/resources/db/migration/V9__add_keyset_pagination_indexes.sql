@@ -0,0 +1,20 @@
+-- Index composites pour la pagination par curseur : (date, id) DESC correspond exactement
+-- à l'ORDER BY des requêtes "scroll", la page suivante est une simple lecture d'index.
+
+CREATE INDEX idx_formations_actives_date_creation_id
+    ON formations (date_creation DESC, id DESC) WHERE active = TRUE;
+
+CREATE INDEX idx_messages_date_creation_id
+    ON messages (date_creation DESC, id DESC);
+
+CREATE INDEX idx_newsletter_date_inscription_id
+    ON newsletter_subscriptions (date_inscription DESC, id DESC);
+
+CREATE INDEX idx_gallery_images_publiques_date_creation_id
+    ON gallery_images (date_creation DESC, id DESC) WHERE is_public = TRUE;
+
+CREATE INDEX idx_testimonials_date_creation_id
+    ON testimonials (date_creation DESC, id DESC);
+
+CREATE INDEX idx_testimonials_publies_date_creation_id
+    ON testimonials (date_creation DESC, id DESC) WHERE publie = TRUE;
@@ -0,0 +1,58 @@
+package cm.beautysempire.institut.domain.shared;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TelephoneE164Test {
+
+    // Les mêmes entrées que celles réécrites par Flyway V18 : une divergence ici casse la déduplication des abonnés
+    @ParameterizedTest(name = "\"{0}\" -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            // Numéro national camerounais (9 chiffres)
+            "699000001             | +237699000001",
+            "6 99 00 00 01         | +237699000001",
+            "699-000-001           | +237699000001",
+            // Indicatif déjà présent
+            "+237699000001         | +237699000001",
+            "+237 699-000-001      | +237699000001",
+            "00237699000001        | +237699000001",
+            "00 237 699 00 00 01   | +237699000001",
+            "237699000001          | +237699000001",
+            // Numéros étrangers
+            "+33 6 12 34 56 78     | +33612345678",
+            "0033612345678         | +33612345678",
+            "+1 (415) 555-0100     | +14155550100",
+    })
+    void normaliser(String saisi, String attendu) {
+        assertThat(TelephoneE164.normaliser(saisi)).isEqualTo(attendu);
+    }
+
+    @ParameterizedTest(name = "\"{0}\" -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "6 99 00 00 01         | 237699000001",
+            "+237 699-000-001      | 237699000001",
+            "0033612345678         | 33612345678",
+    })
+    void chiffresInternationauxSansPlus(String saisi, String attendu) {
+        assertThat(TelephoneE164.chiffresInternationaux(saisi)).isEqualTo(attendu);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   ", "+", "--", "( )"})
+    void sansChiffresDonneNull(String saisi) {
+        assertThat(TelephoneE164.normaliser(saisi)).isNull();
+        assertThat(TelephoneE164.chiffresInternationaux(saisi)).isNull();
+    }
+
+    @Test
+    void normaliserEstIdempotent() {
+        String une = TelephoneE164.normaliser("6 99 00 00 01");
+        assertThat(TelephoneE164.normaliser(une)).isEqualTo(une);
+    }
+}
@@ -0,0 +1,76 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+import cm.beautysempire.institut.domain.formation.Formation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({FormationRepositoryAdapter.class, FormationPersistenceMapperImpl.class,
+        FormationBatchWriter.class, FormationExportReader.class})
+class FormationCataloguePhotosTest {
+
+    private static final int NOMBRE_FORMATIONS = 120;
+
+    @Autowired
+    private FormationJpaRepository jpaRepository;
+
+    @Autowired
+    private FormationRepositoryAdapter adapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void preparer() {
+        LocalDateTime maintenant = LocalDateTime.now();
+        for (int i = 0; i < NOMBRE_FORMATIONS; i++) {
+            jpaRepository.save(formation(i, maintenant.minusMinutes(i)));
+        }
+        entityManager.flush();
+    }
+
+    // Page + count + un seul SELECT sur formation_photos, quelle que soit la taille de la page
+    // jusqu'à la borne de FormationController (100, égale au @BatchSize des photos)
+    @ParameterizedTest
+    @ValueSource(ints = {4, 12, 50, 100})
+    void chargeLesPhotosDUnePageEnUneSeuleRequete(int taille) {
+        entityManager.clear();
+        Statistics statistiques = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistiques.clear();
+
+        Page<Formation> page = adapter.findAllActivePaginated(
+                PageRequest.of(0, taille, Sort.by(Sort.Direction.DESC, "dateCreation")));
+
+        assertThat(page.getContent()).hasSize(taille)
+                .allSatisfy(f -> assertThat(f.getPhotosGalerie()).hasSize(2));
+        assertThat(statistiques.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private FormationJpaEntity formation(int numero, LocalDateTime dateCreation) {
+        return FormationsDeTest.formation("Formation " + numero)
+                .photosGalerie(List.of("photo" + numero + "_1.jpg", "photo" + numero + "_2.jpg"))
+                .dateCreation(dateCreation)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+import cm.beautysempire.institut.application.exception.FormationCompleteException;
+import cm.beautysempire.institut.application.exception.FormationNotFoundException;
+import cm.beautysempire.institut.application.port.CompteurVuesPort;
+import cm.beautysempire.institut.application.port.IndexSlugsPort;
+import cm.beautysempire.institut.application.service.FormationUseCase;
+import cm.beautysempire.institut.application.service.StatistiquesUseCase;
+import cm.beautysempire.institut.infrastructure.cache.FormationCacheAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({FormationRepositoryAdapter.class, FormationPersistenceMapperImpl.class,
+        FormationBatchWriter.class, FormationExportReader.class})
+// Chaque réservation doit s'exécuter dans sa propre transaction, comme en production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FormationReservationConcurrencyTest {
+
+    private static final int NOMBRE_PLACES = 40;
+    private static final int NOMBRE_DEMANDES = 400;
+
+    @Autowired
+    private FormationJpaRepository jpaRepository;
+
+    @Autowired
+    private FormationRepositoryAdapter adapter;
+
+    // Même chemin qu'en production : use case -> cache -> adapter JPA
+    private FormationUseCase formationUseCase;
+
+    @BeforeEach
+    void preparer() {
+        FormationCacheAdapter cache = new FormationCacheAdapter(adapter, Duration.ofMinutes(10), 1000);
+        formationUseCase = new FormationUseCase(cache, mock(CompteurVuesPort.class),
+                mock(StatistiquesUseCase.class), mock(IndexSlugsPort.class));
+    }
+
+    @AfterEach
+    void nettoyer() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    void neVendJamaisPlusDePlacesQueDisponibles() throws Exception {
+        Long id = jpaRepository.save(formation(true, false)).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch depart = new CountDownLatch(1);
+        AtomicInteger reussites = new AtomicInteger();
+        AtomicInteger completes = new AtomicInteger();
+        List<Future<?>> taches = new ArrayList<>();
+
+        for (int i = 0; i < NOMBRE_DEMANDES; i++) {
+            taches.add(executor.submit(() -> {
+                depart.await();
+                try {
+                    formationUseCase.enregistrerInscription(id);
+                    reussites.incrementAndGet();
+                } catch (FormationCompleteException e) {
+                    completes.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> tache : taches) {
+            tache.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        FormationJpaEntity apres = jpaRepository.findById(id).orElseThrow();
+        assertThat(reussites.get()).isEqualTo(NOMBRE_PLACES);
+        assertThat(completes.get()).isEqualTo(NOMBRE_DEMANDES - NOMBRE_PLACES);
+        assertThat(apres.getNombreInscritsReel()).isEqualTo(NOMBRE_PLACES);
+        assertThat(apres.getNombreInscriptions()).isEqualTo(NOMBRE_PLACES);
+        // Sans social proof, le nombre affiché suit le nombre réel (Formation.ajouterInscriptionReelle)
+        assertThat(apres.getNombreInscritsAffiche()).isEqualTo(NOMBRE_PLACES);
+    }
+
+    @Test
+    void refuseLaReservationSurUneFormationInactive() {
+        Long id = jpaRepository.save(formation(false, false)).getId();
+
+        assertThatThrownBy(() -> formationUseCase.enregistrerInscription(id))
+                .isInstanceOf(FormationCompleteException.class);
+        assertThat(jpaRepository.findById(id).orElseThrow().getNombreInscritsReel()).isZero();
+    }
+
+    @Test
+    void signaleUneFormationIntrouvable() {
+        assertThatThrownBy(() -> formationUseCase.enregistrerInscription(Long.MAX_VALUE))
+                .isInstanceOf(FormationNotFoundException.class);
+    }
+
+    @Test
+    void invalideLeCacheApresUneReservation() {
+        Long id = jpaRepository.save(formation(true, false)).getId();
+        assertThat(formationUseCase.obtenirFormationParId(id).getNombreInscritsReel()).isZero();
+
+        formationUseCase.enregistrerInscription(id);
+
+        assertThat(formationUseCase.obtenirFormationParId(id).getNombreInscritsReel()).isEqualTo(1);
+    }
+
+    @Test
+    void conserveLeNombreAfficheQuandLeSocialProofEstActif() {
+        FormationJpaEntity entity = formation(true, true);
+        entity.setNombreInscritsAffiche(13);
+        Long id = jpaRepository.save(entity).getId();
+
+        formationUseCase.enregistrerInscription(id);
+
+        FormationJpaEntity apres = jpaRepository.findById(id).orElseThrow();
+        assertThat(apres.getNombreInscritsReel()).isEqualTo(1);
+        assertThat(apres.getNombreInscritsAffiche()).isEqualTo(13);
+    }
+
+    private FormationJpaEntity formation(boolean active, boolean socialProof) {
+        return FormationsDeTest.formation("Make-up Professionnel")
+                .nombrePlaces(NOMBRE_PLACES)
+                .socialProofActif(socialProof)
+                .active(active)
+                .build();
+    }
+}
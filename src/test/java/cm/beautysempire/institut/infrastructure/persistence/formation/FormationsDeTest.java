@@ -0,0 +1,36 @@
+package cm.beautysempire.institut.infrastructure.persistence.formation;
+
+import cm.beautysempire.institut.domain.formation.SlugFormation;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Formation active et valide pour les tests de persistance : chaque test ne précise que ce qui le concerne
+final class FormationsDeTest {
+
+    private FormationsDeTest() {
+    }
+
+    static FormationJpaEntity.FormationJpaEntityBuilder formation(String nom) {
+        return FormationJpaEntity.builder()
+                .nom(nom)
+                .slug(SlugFormation.depuis(nom))
+                .description("Formation de test")
+                .duree("2 mois")
+                .fraisInscription(BigDecimal.valueOf(15000))
+                .prix(BigDecimal.valueOf(45000))
+                .categorie("Esthétique")
+                .certificatDelivre(true)
+                .nombrePlaces(20)
+                .nombreInscritsReel(0)
+                .nombreInscritsAffiche(0)
+                .nombreInscriptions(0)
+                .nombreVues(0)
+                .nombreDemandesInfo(0)
+                .socialProofActif(false)
+                .active(true)
+                .enPromotion(false)
+                .pourcentageReduction(BigDecimal.ZERO)
+                .dateCreation(LocalDateTime.now());
+    }
+}
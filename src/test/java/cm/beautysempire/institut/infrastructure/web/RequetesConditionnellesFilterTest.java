@@ -0,0 +1,171 @@
+package cm.beautysempire.institut.infrastructure.web;
+
+import cm.beautysempire.institut.application.port.CompteurVuesPort;
+import cm.beautysempire.institut.infrastructure.persistence.shared.EmpreintesContenu;
+import cm.beautysempire.institut.infrastructure.persistence.shared.EmpreintesContenu.EmpreinteFormation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequetesConditionnellesFilterTest {
+
+    private static final int SEUIL_COMPRESSION = 2048;
+    private static final String CATALOGUE_JSON = "{\"formations\":\"" + "x".repeat(3000) + "\"}";
+
+    private CompteurVuesPort compteurVuesPort;
+    private ControleurFactice controleur;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void preparer() {
+        EmpreintesContenu empreintes = mock(EmpreintesContenu.class);
+        when(empreintes.catalogue()).thenReturn("v1");
+        when(empreintes.formation(1L)).thenReturn(Optional.of("f1"));
+        when(empreintes.formation(404L)).thenReturn(Optional.empty());
+        when(empreintes.formationParSlug("make-up")).thenReturn(Optional.of(new EmpreinteFormation(7L, "e7")));
+        compteurVuesPort = mock(CompteurVuesPort.class);
+
+        RequetesConditionnellesFilter filtre = new RequetesConditionnellesFilter(empreintes, compteurVuesPort,
+                Map.of(RequetesConditionnellesFilter.CATALOGUE, "public, max-age=60",
+                        RequetesConditionnellesFilter.FORMATION, "public, max-age=30"),
+                new CacheReponsesSerialisees(1_000_000, Duration.ofMinutes(1), SEUIL_COMPRESSION));
+        controleur = new ControleurFactice();
+        mockMvc = MockMvcBuilders.standaloneSetup(controleur).addFilters(filtre).build();
+    }
+
+    @Test
+    void poseETagEtCacheControlSurUneReponse200() throws Exception {
+        mockMvc.perform(get("/api/formations/actives"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalogue-v1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=60"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    void repond304SansAppelerLeControleurQuandLETagCorrespond() throws Exception {
+        mockMvc.perform(get("/api/formations/actives").header(HttpHeaders.IF_NONE_MATCH, "\"catalogue-v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalogue-v1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=60"));
+
+        assertThat(controleur.appels.get()).isZero();
+    }
+
+    @Test
+    void compteLaVueDUnePageDetailRevalideeEn304() throws Exception {
+        mockMvc.perform(get("/api/formations/slug/make-up").header(HttpHeaders.IF_NONE_MATCH, "\"formation-e7\""))
+                .andExpect(status().isNotModified());
+
+        assertThat(controleur.appels.get()).isZero();
+        verify(compteurVuesPort).enregistrerVue(7L);
+    }
+
+    @Test
+    void envoieLaVarianteGzipAvecSonPropreETag() throws Exception {
+        MvcResult resultat = mockMvc.perform(get("/api/formations/actives").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalogue-v1-gzip\""))
+                .andReturn();
+        assertThat(degzipper(resultat.getResponse().getContentAsByteArray())).isEqualTo(CATALOGUE_JSON);
+
+        mockMvc.perform(get("/api/formations/actives")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"catalogue-v1-gzip\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalogue-v1-gzip\""));
+    }
+
+    // Sous le seuil, le corps part brut même si gzip est accepté : même ETag que sans gzip
+    @Test
+    void garderLETagBrutQuandLeCorpsEstTropPetitPourEtreCompresse() throws Exception {
+        mockMvc.perform(get("/api/formations/1").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"formation-f1\""));
+
+        mockMvc.perform(get("/api/formations/1")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"formation-f1\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void sertLaDeuxiemeRequeteDepuisLeCacheDesReponses() throws Exception {
+        mockMvc.perform(get("/api/formations/actives")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/formations/actives")).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalogue-v1\""));
+
+        assertThat(controleur.appels.get()).isEqualTo(1);
+    }
+
+    @Test
+    void nePosePasDETagSurUneErreur() throws Exception {
+        mockMvc.perform(get("/api/formations/actives").param("page", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        mockMvc.perform(get("/api/formations/404"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private static String degzipper(byte[] corps) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(corps))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @RestController
+    static class ControleurFactice {
+
+        private final AtomicInteger appels = new AtomicInteger();
+
+        @GetMapping(value = "/api/formations/actives", produces = MediaType.APPLICATION_JSON_VALUE)
+        ResponseEntity<String> actives(@RequestParam(defaultValue = "0") int page) {
+            appels.incrementAndGet();
+            if (page < 0) return ResponseEntity.badRequest().body("{\"message\":\"page invalide\"}");
+            return ResponseEntity.ok(CATALOGUE_JSON);
+        }
+
+        @GetMapping(value = "/api/formations/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+        ResponseEntity<String> parId(@PathVariable long id) {
+            appels.incrementAndGet();
+            if (id == 404) return ResponseEntity.notFound().build();
+            return ResponseEntity.ok("{\"id\":" + id + "}");
+        }
+
+        @GetMapping(value = "/api/formations/slug/{slug}", produces = MediaType.APPLICATION_JSON_VALUE)
+        ResponseEntity<String> parSlug(@PathVariable String slug) {
+            appels.incrementAndGet();
+            return ResponseEntity.ok("{\"slug\":\"" + slug + "\"}");
+        }
+    }
+}